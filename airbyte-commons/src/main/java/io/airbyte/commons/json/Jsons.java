@@ -76,6 +76,23 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserializes json held in a range of a byte array, without decoding it to a String first.
+   *
+   * @param bytes buffer holding the json, encoded in UTF-8
+   * @param offset start of the json in the buffer
+   * @param length length of the json in bytes
+   * @param klass type to deserialize to
+   * @return the deserialized object, or empty if the bytes are not valid json for this type
+   */
+  public static <T> Optional<T> tryDeserialize(final byte[] bytes, final int offset, final int length, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER.readValue(bytes, offset, length, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   public static Optional<JsonNode> tryDeserialize(final String jsonString) {
     try {
       return Optional.of(OBJECT_MAPPER.readTree(jsonString));
@@ -130,4 +130,17 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Like {@link #concatWithEagerClose(List)}, but consumes up to {@code parallelism} of the iterators
+   * at the same time. See {@link ConcurrentCompositeIterator} for the ordering guarantees.
+   *
+   * @param iterators autocloseable iterators to concatenate
+   * @param parallelism maximum number of iterators consumed at the same time
+   * @param <T> type
+   * @return autocloseable iterator interleaving the elements of the input iterators
+   */
+  public static <T> ConcurrentCompositeIterator<T> concatConcurrently(final List<AutoCloseableIterator<T>> iterators, final int parallelism) {
+    return new ConcurrentCompositeIterator<>(iterators, parallelism);
+  }
+
 }
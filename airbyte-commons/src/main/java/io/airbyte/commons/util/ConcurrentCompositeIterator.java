@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s like {@link CompositeIterator}, but consumes up
+ * to {@code parallelism} of them at the same time, each on its own thread. Internal iterators are
+ * started in the order of the list, and each one is closed by its thread after its
+ * {@link java.util.Iterator#hasNext} returns false.
+ *
+ * <p>
+ * Elements of the different internal iterators are interleaved, but elements of a same internal
+ * iterator are returned in their order. Moreover, each element of an internal iterator is queued
+ * for this iterator before the internal iterator computes its next one. Thus an element that
+ * summarizes the progress of the iterators (e.g. a state message, computed once an internal
+ * iterator has no more records) is never returned before the elements it accounts for.
+ * </p>
+ * <p>
+ * If an internal iterator throws an exception, it is rethrown by this iterator, which stops
+ * returning elements. {@link ConcurrentCompositeIterator#close()} stops the threads and closes each
+ * internal iterator, with the same guarantees as {@link CompositeIterator#close()}.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final Object END_OF_WORKER = new Object();
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int parallelism;
+  private final BlockingQueue<Object> queue;
+  private final AtomicInteger nextIteratorIndex;
+
+  private ExecutorService executor;
+  private int runningWorkers;
+  private boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int parallelism) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+
+    this.iterators = iterators;
+    this.parallelism = Math.min(parallelism, Math.max(iterators.size(), 1));
+    this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    this.nextIteratorIndex = new AtomicInteger();
+    this.hasClosed = false;
+  }
+
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (executor == null) {
+      startWorkers();
+    }
+
+    while (runningWorkers > 0) {
+      final Object element;
+      try {
+        element = queue.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+
+      if (element == END_OF_WORKER) {
+        runningWorkers--;
+      } else if (element instanceof WorkerFailure failure) {
+        runningWorkers = 0;
+        if (failure.throwable() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        } else if (failure.throwable() instanceof Error error) {
+          throw error;
+        }
+        throw new RuntimeException(failure.throwable());
+      } else {
+        @SuppressWarnings("unchecked")
+        final T value = (T) element;
+        return value;
+      }
+    }
+
+    return endOfData();
+  }
+
+  private void startWorkers() {
+    executor = Executors.newFixedThreadPool(parallelism, new BasicThreadFactory.Builder()
+        .namingPattern("concurrent-iterator-%d")
+        .daemon(true)
+        .build());
+    runningWorkers = iterators.isEmpty() ? 0 : parallelism;
+    for (int i = 0; i < runningWorkers; i++) {
+      executor.submit(this::consumeIterators);
+    }
+  }
+
+  /**
+   * Consumes the internal iterators that are not taken by another thread yet, one after the other,
+   * until there are none left.
+   */
+  private void consumeIterators() {
+    try {
+      int index;
+      while ((index = nextIteratorIndex.getAndIncrement()) < iterators.size()) {
+        final AutoCloseableIterator<T> iterator = iterators.get(index);
+        while (iterator.hasNext()) {
+          queue.put(iterator.next());
+        }
+        iterator.close();
+      }
+      queue.put(END_OF_WORKER);
+    } catch (final InterruptedException e) {
+      // the composite iterator is being closed.
+      Thread.currentThread().interrupt();
+    } catch (final Throwable t) {
+      // errors are reported too, so that they are not lost with the thread, leaving this iterator
+      // waiting for it.
+      try {
+        queue.put(new WorkerFailure(t));
+      } catch (final InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executor != null) {
+      // interrupts threads waiting for room in the queue. threads blocked reading their iterator are
+      // stopped by closing it below.
+      executor.shutdownNow();
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (executor != null && !executor.awaitTermination(1, TimeUnit.MINUTES)) {
+      LOGGER.warn("Threads consuming the iterators did not stop within a minute.");
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+  private record WorkerFailure(Throwable throwable) {}
+
+}
@@ -92,6 +92,20 @@ class JsonsTest {
         Jsons.tryDeserialize("{\"str\":\"abc\", \"num\": 999, \"test\": 888}", ToClass.class));
   }
 
+  @Test
+  void testTryDeserializeBytes() {
+    final byte[] bytes = "xx{\"str\":\"abc\", \"num\": 999, \"numLong\": 888}\n{\"str\":".getBytes(StandardCharsets.UTF_8);
+    final int length = bytes.length - "xx".length() - "\n{\"str\":".length();
+
+    assertEquals(
+        Optional.of(new ToClass("abc", 999, 888L)),
+        Jsons.tryDeserialize(bytes, 2, length, ToClass.class));
+
+    assertEquals(
+        Optional.empty(),
+        Jsons.tryDeserialize(bytes, 2, length - 1, ToClass.class));
+  }
+
   @Test
   void testTryDeserializeToJsonNode() {
     assertEquals(
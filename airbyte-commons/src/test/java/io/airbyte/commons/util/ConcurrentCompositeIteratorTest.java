@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testInvalidInput() {
+    assertThrows(NullPointerException.class, () -> new ConcurrentCompositeIterator<>(null, 2));
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentCompositeIterator<>(Collections.emptyList(), 0));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2);
+    assertFalse(iterator.hasNext());
+    iterator.close();
+  }
+
+  @Test
+  void testMultipleIterators() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1),
+        AutoCloseableIterators.fromIterator(MoreIterators.of(), onClose2),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("g", "h", "i"), onClose3)), 2);
+
+    final List<String> elements = MoreIterators.toList(iterator);
+    assertEquals(Set.of("a", "b", "c", "g", "h", "i"), new HashSet<>(elements));
+    assertEquals(List.of("a", "b", "c"), elements.stream().filter(e -> e.compareTo("d") < 0).collect(Collectors.toList()));
+    assertEquals(List.of("g", "h", "i"), elements.stream().filter(e -> e.compareTo("d") > 0).collect(Collectors.toList()));
+    // each iterator is closed by the thread that consumed it.
+    verify(onClose1).call();
+    verify(onClose2).call();
+    verify(onClose3).call();
+
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+  }
+
+  @Test
+  void testConsumesIteratorsConcurrently() throws Exception {
+    // each iterator only ends once the other one has started, so they cannot be consumed one after the
+    // other.
+    final CountDownLatch started = new CountDownLatch(2);
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(new WaitingIterator("a", started)),
+        AutoCloseableIterators.fromIterator(new WaitingIterator("b", started))), 2);
+
+    assertEquals(Set.of("a", "b"), new HashSet<>(MoreIterators.toList(iterator)));
+    iterator.close();
+  }
+
+  @Test
+  void testSummaryIsReturnedAfterTheElementsItAccountsFor() throws Exception {
+    final Set<String> exhaustedIterators = ConcurrentHashMap.newKeySet();
+    final List<AutoCloseableIterator<String>> iterators = new ArrayList<>();
+    for (final String name : List.of("a", "b", "c", "d")) {
+      iterators.add(AutoCloseableIterators.fromIterator(new SummarizingIterator(name, 1000, exhaustedIterators)));
+    }
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(iterators, 4);
+
+    final List<String> returned = new ArrayList<>();
+    while (iterator.hasNext()) {
+      final String element = iterator.next();
+      if (element.startsWith("summary:")) {
+        for (final String exhausted : element.substring("summary:".length()).split(",")) {
+          assertTrue(returned.contains(exhausted + 999), "summary returned before the last element of " + exhausted);
+        }
+      }
+      returned.add(element);
+    }
+    iterator.close();
+    assertEquals(4 * 1001, returned.size());
+  }
+
+  @Test
+  void testFailure() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(new AbstractIterator<>() {
+
+          @Override
+          protected String computeNext() {
+            throw new IllegalStateException("read failed");
+          }
+
+        }, onClose1),
+        AutoCloseableIterators.fromIterator(Iterators.cycle("a"), onClose2)), 2);
+
+    final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+      while (iterator.hasNext()) {
+        iterator.next();
+      }
+    });
+    assertEquals("read failed", exception.getMessage());
+
+    iterator.close();
+    verify(onClose1).call();
+    verify(onClose2).call();
+  }
+
+  @Test
+  void testCloseBeforeUsingItUp() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(Iterators.cycle("a"), onClose1),
+        AutoCloseableIterators.fromIterator(Iterators.cycle("b"), onClose2)), 2);
+
+    assertTrue(iterator.hasNext());
+    iterator.next();
+    iterator.close();
+
+    verify(onClose1).call();
+    verify(onClose2).call();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+    iterator.close(); // still allowed to close again.
+  }
+
+  private static class WaitingIterator extends AbstractIterator<String> {
+
+    private final String element;
+    private final CountDownLatch started;
+    private boolean hasReturned;
+
+    WaitingIterator(final String element, final CountDownLatch started) {
+      this.element = element;
+      this.started = started;
+    }
+
+    @Override
+    protected String computeNext() {
+      if (hasReturned) {
+        return endOfData();
+      }
+      started.countDown();
+      try {
+        assertTrue(started.await(5, TimeUnit.SECONDS), "iterators were not consumed concurrently");
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      hasReturned = true;
+      return element;
+    }
+
+  }
+
+  /**
+   * Returns its elements, then a summary listing the iterators that had returned all their elements
+   * at that time, like a source emitting a state message once a stream is read.
+   */
+  private static class SummarizingIterator extends AbstractIterator<String> {
+
+    private final String name;
+    private final int size;
+    private final Set<String> exhaustedIterators;
+    private int count;
+
+    SummarizingIterator(final String name, final int size, final Set<String> exhaustedIterators) {
+      this.name = name;
+      this.size = size;
+      this.exhaustedIterators = exhaustedIterators;
+    }
+
+    @Override
+    protected String computeNext() {
+      if (count < size) {
+        return name + count++;
+      } else if (count == size) {
+        count++;
+        exhaustedIterators.add(name);
+        return "summary:" + String.join(",", exhaustedIterators);
+      }
+      return endOfData();
+    }
+
+  }
+
+}
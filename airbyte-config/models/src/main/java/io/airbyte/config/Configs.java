@@ -436,6 +436,33 @@ public interface Configs {
    */
   boolean shouldRunConnectionManagerWorkflows();
 
+  /**
+   * Define if the replication worker should read from the source, map and track messages, and write
+   * to the destination on separate threads connected by bounded queues. Defaults to false. Alpha
+   * support.
+   */
+  boolean getReplicationWorkerPipelineEnabled();
+
+  /**
+   * Define the maximum number of messages buffered between each stage of the replication worker
+   * pipeline. Only relevant if the pipeline is enabled. Defaults to 1000. Alpha support.
+   */
+  int getReplicationWorkerPipelineQueueSize();
+
+  /**
+   * Define if the replication worker should forward the data of source records to the destination
+   * as-is instead of deserializing and serializing it again. Only the envelope of record messages is
+   * parsed. Defaults to false. Alpha support.
+   */
+  boolean getReplicationWorkerPassthroughEnabled();
+
+  /**
+   * Define how many records of each stream the replication worker validates against the full Airbyte
+   * protocol schema. Other records only get a structural check of their envelope. Defaults to -1,
+   * which validates every record. Alpha support.
+   */
+  long getReplicationWorkerFullyValidatedRecordsPerStream();
+
   // Worker - Kube only
   /**
    * Define the local ports the Airbyte Worker pod uses to connect to the various Job pods.
@@ -121,6 +121,11 @@ public class EnvConfigs implements Configs {
   private static final String SHOULD_RUN_SYNC_WORKFLOWS = "SHOULD_RUN_SYNC_WORKFLOWS";
   private static final String SHOULD_RUN_CONNECTION_MANAGER_WORKFLOWS = "SHOULD_RUN_CONNECTION_MANAGER_WORKFLOWS";
 
+  public static final String REPLICATION_WORKER_PIPELINE_ENABLED = "REPLICATION_WORKER_PIPELINE_ENABLED";
+  public static final String REPLICATION_WORKER_PIPELINE_QUEUE_SIZE = "REPLICATION_WORKER_PIPELINE_QUEUE_SIZE";
+  public static final String REPLICATION_WORKER_PASSTHROUGH_ENABLED = "REPLICATION_WORKER_PASSTHROUGH_ENABLED";
+  public static final String REPLICATION_WORKER_FULLY_VALIDATED_RECORDS_PER_STREAM = "REPLICATION_WORKER_FULLY_VALIDATED_RECORDS_PER_STREAM";
+
   private static final String MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = "MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE";
   private static final String MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = "MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE";
 
@@ -175,6 +180,8 @@ public class EnvConfigs implements Configs {
   public static final int DEFAULT_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = 100;
   public static final int DEFAULT_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = 14;
 
+  public static final int DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE = 1000;
+
   private final Function<String, String> getEnv;
   private final Supplier<Set<String>> getAllEnvKeys;
   private final LogConfigs logConfigs;
@@ -774,6 +781,32 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(SHOULD_RUN_CONNECTION_MANAGER_WORKFLOWS, true);
   }
 
+  @Override
+  public boolean getReplicationWorkerPipelineEnabled() {
+    return getEnvOrDefault(REPLICATION_WORKER_PIPELINE_ENABLED, false);
+  }
+
+  @Override
+  public int getReplicationWorkerPipelineQueueSize() {
+    final int queueSize = getEnvOrDefault(REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE);
+    if (queueSize <= 0) {
+      LOGGER.warn("{} must be positive, was {}, defaulting to {}", REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, queueSize,
+          DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE);
+      return DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE;
+    }
+    return queueSize;
+  }
+
+  @Override
+  public boolean getReplicationWorkerPassthroughEnabled() {
+    return getEnvOrDefault(REPLICATION_WORKER_PASSTHROUGH_ENABLED, false);
+  }
+
+  @Override
+  public long getReplicationWorkerFullyValidatedRecordsPerStream() {
+    return getEnvOrDefault(REPLICATION_WORKER_FULLY_VALIDATED_RECORDS_PER_STREAM, -1L);
+  }
+
   @Override
   public Set<Integer> getTemporalWorkerPorts() {
     final var ports = getEnvOrDefault(TEMPORAL_WORKER_PORTS, "");
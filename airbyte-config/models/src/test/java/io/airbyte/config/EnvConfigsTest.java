@@ -60,6 +60,21 @@ class EnvConfigsTest {
     assertEquals(Paths.get("abc/def"), config.getWorkspaceRoot());
   }
 
+  @Test
+  void testReplicationWorkerPipelineQueueSize() {
+    envMap.put(EnvConfigs.REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, null);
+    assertEquals(EnvConfigs.DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, config.getReplicationWorkerPipelineQueueSize());
+
+    envMap.put(EnvConfigs.REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, "500");
+    assertEquals(500, config.getReplicationWorkerPipelineQueueSize());
+
+    envMap.put(EnvConfigs.REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, "0");
+    assertEquals(EnvConfigs.DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, config.getReplicationWorkerPipelineQueueSize());
+
+    envMap.put(EnvConfigs.REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, "-1");
+    assertEquals(EnvConfigs.DEFAULT_REPLICATION_WORKER_PIPELINE_QUEUE_SIZE, config.getReplicationWorkerPipelineQueueSize());
+  }
+
   @Test
   void testLocalRoot() {
     envMap.put(EnvConfigs.LOCAL_ROOT, null);
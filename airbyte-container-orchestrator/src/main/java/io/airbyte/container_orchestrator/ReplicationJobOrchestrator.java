@@ -95,7 +95,9 @@ public class ReplicationJobOrchestrator implements JobOrchestrator<StandardSyncI
         airbyteSource,
         new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
         new DefaultAirbyteDestination(workerConfigs, destinationLauncher),
-        new AirbyteMessageTracker());
+        new AirbyteMessageTracker(),
+        workerConfigs.isReplicationPipelineEnabled(),
+        workerConfigs.getReplicationPipelineQueueSize());
 
     log.info("Running replication worker...");
     final Path jobRoot = WorkerUtils.getJobRoot(configs.getWorkspaceRoot(), jobRunConfig.getJobId(), jobRunConfig.getAttemptId());
@@ -27,6 +27,7 @@ public class Databases {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Databases.class);
   private static final long DEFAULT_WAIT_MS = 5 * 1000;
+  public static final int MAX_POOLED_CONNECTIONS = 5;
 
   public static Database createPostgresDatabase(final String username,
                                                 final String password,
@@ -215,7 +216,7 @@ public class Databases {
     connectionPool.setUsername(username);
     connectionPool.setPassword(password);
     connectionPool.setInitialSize(0);
-    connectionPool.setMaxTotal(5);
+    connectionPool.setMaxTotal(MAX_POOLED_CONNECTIONS);
     connectionPool.setUrl(jdbcConnectionString);
     connectionProperties.forEach(connectionPool::addConnectionProperty);
     return connectionPool;
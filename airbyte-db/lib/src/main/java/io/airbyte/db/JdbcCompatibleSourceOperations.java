@@ -6,6 +6,7 @@ package io.airbyte.db;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -22,6 +23,15 @@ public interface JdbcCompatibleSourceOperations<SourceType> extends SourceOperat
    */
   void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException;
 
+  /**
+   * Create a function converting the rows of a query to json, like {@link #rowToJson(Object)}. It is
+   * meant to be created once per query, so that it can resolve how to read each column once instead
+   * of on every row.
+   */
+  default CheckedFunction<ResultSet, JsonNode, SQLException> getRowToJsonMapper() {
+    return this::rowToJson;
+  }
+
   /**
    * Set the cursor field in incremental table query.
    */
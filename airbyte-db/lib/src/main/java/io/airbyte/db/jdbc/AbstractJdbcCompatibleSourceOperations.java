@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
@@ -16,6 +17,7 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -30,6 +32,25 @@ import javax.xml.bind.DatatypeConverter;
  */
 public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implements JdbcCompatibleSourceOperations<Datatype> {
 
+  /**
+   * Copies the value of a column of the current row of a result set to a json object. Only called
+   * for non null values.
+   */
+  @FunctionalInterface
+  protected interface ColumnReader {
+
+    void read(ResultSet resultSet, ObjectNode json) throws SQLException;
+
+  }
+
+  /**
+   * Whether a subclass overrides how rows are read below the class which resolves the column
+   * readers. The column readers would bypass those overrides, so the rows are then always read
+   * through {@link #rowToJson(ResultSet)}.
+   */
+  private final boolean overridesRowReading = isOverriddenBelow("rowToJson", ResultSet.class)
+      || isOverriddenBelow("setJsonField", ResultSet.class, int.class, ObjectNode.class);
+
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
     // the first call communicates with the database. after that the result is cached.
@@ -52,6 +73,78 @@ public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implement
     return jsonNode;
   }
 
+  @Override
+  public CheckedFunction<ResultSet, JsonNode, SQLException> getRowToJsonMapper() {
+    if (overridesRowReading) {
+      return this::rowToJson;
+    }
+    return new ColumnReaderPlan();
+  }
+
+  /**
+   * How to read each column of a result set, resolved from its metadata on its first row instead of
+   * on every row.
+   */
+  private class ColumnReaderPlan implements CheckedFunction<ResultSet, JsonNode, SQLException> {
+
+    private ResultSet resultSet;
+    private ColumnReader[] readers;
+
+    @Override
+    public JsonNode apply(final ResultSet queryContext) throws SQLException {
+      if (queryContext != resultSet) {
+        final ResultSetMetaData metaData = queryContext.getMetaData();
+        readers = new ColumnReader[metaData.getColumnCount()];
+        for (int i = 1; i <= readers.length; i++) {
+          readers[i - 1] = getColumnReader(metaData, i);
+        }
+        resultSet = queryContext;
+      }
+
+      final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+      for (int i = 1; i <= readers.length; i++) {
+        // same null check as in rowToJson.
+        queryContext.getObject(i);
+        if (queryContext.wasNull()) {
+          continue;
+        }
+        readers[i - 1].read(queryContext, jsonNode);
+      }
+      return jsonNode;
+    }
+
+  }
+
+  private boolean isOverriddenBelow(final String methodName, final Class<?>... parameterTypes) {
+    final Class<?> declaringClass = getDeclaringClass(methodName, parameterTypes);
+    final Class<?> columnReaderClass = getDeclaringClass("getColumnReader", ResultSetMetaData.class, int.class);
+    return declaringClass != columnReaderClass && columnReaderClass.isAssignableFrom(declaringClass);
+  }
+
+  private Class<?> getDeclaringClass(final String methodName, final Class<?>... parameterTypes) {
+    for (Class<?> type = getClass(); type != null; type = type.getSuperclass()) {
+      try {
+        type.getDeclaredMethod(methodName, parameterTypes);
+        return type;
+      } catch (final NoSuchMethodException e) {
+        // declared in a superclass.
+      }
+    }
+    throw new IllegalStateException(String.format("Method %s is not declared in %s", methodName, getClass()));
+  }
+
+  /**
+   * Resolves how to read a column of a result set. Called once per column of each result set read
+   * through {@link #getRowToJsonMapper()}, so implementations should do any metadata lookup here
+   * rather than in the returned reader. By default, the reader delegates to
+   * {@link #setJsonField(ResultSet, int, ObjectNode)}.
+   *
+   * @param colIndex 1-based column index.
+   */
+  protected ColumnReader getColumnReader(final ResultSetMetaData metaData, final int colIndex) throws SQLException {
+    return (resultSet, json) -> setJsonField(resultSet, colIndex, json);
+  }
+
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
     final ArrayNode arrayNode = new ObjectMapper().createArrayNode();
     final ResultSet arrayResultSet = resultSet.getArray(index).getResultSet();
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.json.Jsons;
+import java.util.OptionalInt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Chooses the fetch size of a query from the size of its rows, so that each fetch holds about
+ * {@code memoryBudgetBytes} of rows: large rows are fetched a few at a time instead of running out
+ * of memory, and small ones in large batches instead of with many round trips.
+ *
+ * <p>
+ * The query starts with a small fetch size, whose rows are all measured by their serialized size.
+ * Then one row in {@link #SAMPLING_INTERVAL} is measured, and the fetch size is re-evaluated after
+ * each batch, before the driver fetches the next one. Rows are expected to be read one after the
+ * other by a single thread, and a new controller is used for each query.
+ * </p>
+ */
+public class AdaptiveFetchSizeController {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveFetchSizeController.class);
+
+  public static final int INITIAL_FETCH_SIZE = 10;
+  public static final int MIN_FETCH_SIZE = 10;
+  public static final int MAX_FETCH_SIZE = 100_000;
+  private static final int SAMPLING_INTERVAL = 100;
+  // the fetch size is not changed for smaller differences, which are mostly noise of the sampling.
+  private static final double MIN_CHANGE_RATIO = 0.2;
+
+  private final long memoryBudgetBytes;
+
+  private int fetchSize;
+  private int rowsInBatch;
+  private long rowsRead;
+  private long rowsSampled;
+  private long sampledBytes;
+  private long maxRowBytes;
+  private int fetchSizeChanges;
+  private boolean isTuning;
+
+  /**
+   * @param memoryBudgetBytes targeted size of the rows of each fetch.
+   */
+  public AdaptiveFetchSizeController(final long memoryBudgetBytes) {
+    Preconditions.checkArgument(memoryBudgetBytes > 0, "memory budget must be positive");
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.fetchSize = INITIAL_FETCH_SIZE;
+    this.isTuning = true;
+  }
+
+  /**
+   * Accounts for a row that was read.
+   *
+   * @param row row mapped from the result set. json rows are measured by their serialized size, other
+   *        ones by the length of their string representation.
+   * @return fetch size to set before the next fetch, if it should change.
+   */
+  public OptionalInt accept(final Object row) {
+    rowsRead++;
+    if (rowsRead <= INITIAL_FETCH_SIZE || rowsRead % SAMPLING_INTERVAL == 0) {
+      final long rowBytes = estimateRowBytes(row);
+      rowsSampled++;
+      sampledBytes += rowBytes;
+      maxRowBytes = Math.max(maxRowBytes, rowBytes);
+    }
+
+    if (!isTuning || ++rowsInBatch < fetchSize) {
+      return OptionalInt.empty();
+    }
+    rowsInBatch = 0;
+
+    final int targetFetchSize = (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, memoryBudgetBytes / Math.max(1, getMeanRowBytes())));
+    if (Math.abs(targetFetchSize - fetchSize) <= fetchSize * MIN_CHANGE_RATIO) {
+      return OptionalInt.empty();
+    }
+    LOGGER.info("Changing the fetch size from {} to {} rows, for rows of {} bytes on average.", fetchSize, targetFetchSize, getMeanRowBytes());
+    fetchSize = targetFetchSize;
+    fetchSizeChanges++;
+    return OptionalInt.of(fetchSize);
+  }
+
+  /**
+   * Stops changing the fetch size, e.g. when the driver does not allow it while reading a result set.
+   */
+  public void stopTuning() {
+    isTuning = false;
+  }
+
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public int getFetchSizeChanges() {
+    return fetchSizeChanges;
+  }
+
+  public long getRowsRead() {
+    return rowsRead;
+  }
+
+  public long getMeanRowBytes() {
+    return rowsSampled == 0 ? 0 : sampledBytes / rowsSampled;
+  }
+
+  public long getMaxRowBytes() {
+    return maxRowBytes;
+  }
+
+  private static long estimateRowBytes(final Object row) {
+    if (row instanceof JsonNode json) {
+      return Jsons.serialize(json).length();
+    }
+    return String.valueOf(row).length();
+  }
+
+}
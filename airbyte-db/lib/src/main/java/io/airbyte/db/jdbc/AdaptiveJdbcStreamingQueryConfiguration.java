@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import io.airbyte.db.Databases;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Streams query results through a cursor, whose fetch size is adapted to the size of the rows by an
+ * {@link AdaptiveFetchSizeController}. The query starts with a small fetch size, so that its first
+ * rows can be measured before fetching more.
+ */
+public abstract class AdaptiveJdbcStreamingQueryConfiguration implements JdbcStreamingQueryConfiguration {
+
+  // share of the heap taken by the fetched rows of all the queries read concurrently.
+  private static final long FETCH_MEMORY_BYTES = Runtime.getRuntime().maxMemory() / 4;
+  // a fetched row takes a few times its serialized size, once as read by the driver and once mapped
+  // to json, while the budget is measured in serialized size.
+  private static final int ROW_MEMORY_TO_SERIALIZED_SIZE_RATIO = 4;
+  // each query read concurrently holds a pooled connection, so there are at most as many as the
+  // pool has connections.
+  public static final long DEFAULT_FETCH_MEMORY_BUDGET_BYTES =
+      FETCH_MEMORY_BYTES / Databases.MAX_POOLED_CONNECTIONS / ROW_MEMORY_TO_SERIALIZED_SIZE_RATIO;
+
+  private final long fetchMemoryBudgetBytes;
+
+  protected AdaptiveJdbcStreamingQueryConfiguration() {
+    this(DEFAULT_FETCH_MEMORY_BUDGET_BYTES);
+  }
+
+  /**
+   * @param fetchMemoryBudgetBytes targeted serialized size of the rows of each fetch.
+   */
+  protected AdaptiveJdbcStreamingQueryConfiguration(final long fetchMemoryBudgetBytes) {
+    this.fetchMemoryBudgetBytes = fetchMemoryBudgetBytes;
+  }
+
+  @Override
+  public void accept(final Connection connection, final PreparedStatement preparedStatement) throws SQLException {
+    connection.setAutoCommit(false);
+    preparedStatement.setFetchSize(AdaptiveFetchSizeController.INITIAL_FETCH_SIZE);
+  }
+
+  @Override
+  public Optional<AdaptiveFetchSizeController> createFetchSizeController() {
+    return Optional.of(new AdaptiveFetchSizeController(fetchMemoryBudgetBytes));
+  }
+
+}
@@ -176,7 +176,7 @@ public abstract class JdbcDatabase extends SqlDatabase {
         ++i;
       }
       return statement;
-    }, sourceOperations::rowToJson);
+    }, sourceOperations.getRowToJsonMapper());
   }
 
   public ResultSetMetaData queryMetadata(final String sql, final String... params) throws SQLException {
@@ -16,6 +16,7 @@ import io.airbyte.protocol.models.JsonSchemaType;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,27 +38,31 @@ public class JdbcSourceOperations extends AbstractJdbcCompatibleSourceOperations
 
   @Override
   public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final int columnTypeInt = resultSet.getMetaData().getColumnType(colIndex);
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
+    getColumnReader(resultSet.getMetaData(), colIndex).read(resultSet, json);
+  }
+
+  @Override
+  protected ColumnReader getColumnReader(final ResultSetMetaData metaData, final int colIndex) throws SQLException {
+    final JDBCType columnType = safeGetJdbcType(metaData.getColumnType(colIndex));
+    final String columnName = metaData.getColumnName(colIndex);
 
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> (resultSet, json) -> putBoolean(json, columnName, resultSet, colIndex);
+      case TINYINT, SMALLINT -> (resultSet, json) -> putShortInt(json, columnName, resultSet, colIndex);
+      case INTEGER -> (resultSet, json) -> putInteger(json, columnName, resultSet, colIndex);
+      case BIGINT -> (resultSet, json) -> putBigInt(json, columnName, resultSet, colIndex);
+      case FLOAT, DOUBLE -> (resultSet, json) -> putDouble(json, columnName, resultSet, colIndex);
+      case REAL -> (resultSet, json) -> putFloat(json, columnName, resultSet, colIndex);
+      case NUMERIC, DECIMAL -> (resultSet, json) -> putBigDecimal(json, columnName, resultSet, colIndex);
+      case CHAR, VARCHAR, LONGVARCHAR -> (resultSet, json) -> putString(json, columnName, resultSet, colIndex);
+      case DATE -> (resultSet, json) -> putDate(json, columnName, resultSet, colIndex);
+      case TIME -> (resultSet, json) -> putTime(json, columnName, resultSet, colIndex);
+      case TIMESTAMP -> (resultSet, json) -> putTimestamp(json, columnName, resultSet, colIndex);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> (resultSet, json) -> putBinary(json, columnName, resultSet, colIndex);
+      case ARRAY -> (resultSet, json) -> putArray(json, columnName, resultSet, colIndex);
+      default -> (resultSet, json) -> putDefault(json, columnName, resultSet, colIndex);
+    };
   }
 
   @Override
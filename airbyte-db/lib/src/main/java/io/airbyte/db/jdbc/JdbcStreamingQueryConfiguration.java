@@ -8,8 +8,17 @@ import io.airbyte.commons.functional.CheckedBiConsumer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Optional;
 
 @FunctionalInterface
 public interface JdbcStreamingQueryConfiguration extends CheckedBiConsumer<Connection, PreparedStatement, SQLException> {
 
+  /**
+   * @return controller adjusting the fetch size of a query to the size of its rows while they are
+   *         read, or empty to keep the fetch size set by {@link #accept}. called once per query.
+   */
+  default Optional<AdaptiveFetchSizeController> createFetchSizeController() {
+    return Optional.empty();
+  }
+
 }
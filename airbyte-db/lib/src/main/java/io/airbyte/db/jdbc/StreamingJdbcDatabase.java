@@ -11,8 +11,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This database allows a developer to specify a {@link JdbcStreamingQueryConfiguration}. This
@@ -21,6 +25,8 @@ import javax.sql.DataSource;
  */
 public class StreamingJdbcDatabase extends DefaultJdbcDatabase {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingJdbcDatabase.class);
+
   private final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
 
   public StreamingJdbcDatabase(final DataSource dataSource,
@@ -56,8 +62,19 @@ public class StreamingJdbcDatabase extends DefaultJdbcDatabase {
       final PreparedStatement ps = statementCreator.apply(connection);
       // allow configuration of connection and prepared statement to make streaming possible.
       jdbcStreamingQueryConfiguration.accept(connection, ps);
-      return toUnsafeStream(ps.executeQuery(), recordTransform)
+      final Optional<AdaptiveFetchSizeController> fetchSizeController = jdbcStreamingQueryConfiguration.createFetchSizeController();
+      final CheckedFunction<ResultSet, T, SQLException> rowMapper = fetchSizeController
+          .map(controller -> tuningFetchSize(ps, recordTransform, controller))
+          .orElse(recordTransform);
+      return toUnsafeStream(ps.executeQuery(), rowMapper)
           .onClose(() -> {
+            fetchSizeController.ifPresent(controller -> LOGGER.info(
+                "Read {} rows of {} bytes on average and {} bytes at most, last fetched by {} after {} fetch size changes.",
+                controller.getRowsRead(),
+                controller.getMeanRowBytes(),
+                controller.getMaxRowBytes(),
+                controller.getFetchSize(),
+                controller.getFetchSizeChanges()));
             try {
               connection.setAutoCommit(true);
               connection.close();
@@ -70,4 +87,27 @@ public class StreamingJdbcDatabase extends DefaultJdbcDatabase {
     }
   }
 
+  /**
+   * Measures the rows with the controller, and sets the fetch size it chooses on both the result set
+   * and the statement, as some drivers read the fetch size of the next fetch from the latter.
+   */
+  private static <T> CheckedFunction<ResultSet, T, SQLException> tuningFetchSize(final PreparedStatement ps,
+                                                                              final CheckedFunction<ResultSet, T, SQLException> recordTransform,
+                                                                              final AdaptiveFetchSizeController controller) {
+    return resultSet -> {
+      final T row = recordTransform.apply(resultSet);
+      final OptionalInt fetchSize = controller.accept(row);
+      if (fetchSize.isPresent()) {
+        try {
+          resultSet.setFetchSize(fetchSize.getAsInt());
+          ps.setFetchSize(fetchSize.getAsInt());
+        } catch (final SQLException e) {
+          LOGGER.warn("Could not change the fetch size while reading the result set, keeping the current one.", e);
+          controller.stopTuning();
+        }
+      }
+      return row;
+    };
+  }
+
 }
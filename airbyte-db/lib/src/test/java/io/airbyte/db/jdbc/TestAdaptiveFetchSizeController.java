@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class TestAdaptiveFetchSizeController {
+
+  // serialized as {"id":1,"name":"<90 characters>"}, i.e. 108 bytes.
+  private static final JsonNode ROW = Jsons.jsonNode(ImmutableMap.of("id", 1, "name", Strings.repeat("a", 90)));
+  private static final long ROW_BYTES = Jsons.serialize(ROW).length();
+
+  @Test
+  void testInvalidBudget() {
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveFetchSizeController(0));
+  }
+
+  @Test
+  void testTunesAfterFirstBatch() {
+    final AdaptiveFetchSizeController controller = new AdaptiveFetchSizeController(ROW_BYTES * 500);
+
+    final List<OptionalInt> changes = accept(controller, ROW, 10);
+    for (int i = 0; i < 9; i++) {
+      assertEquals(OptionalInt.empty(), changes.get(i));
+    }
+    assertEquals(OptionalInt.of(500), changes.get(9));
+    assertEquals(500, controller.getFetchSize());
+    assertEquals(ROW_BYTES, controller.getMeanRowBytes());
+    assertEquals(ROW_BYTES, controller.getMaxRowBytes());
+
+    // the size of the rows does not change, neither does the fetch size.
+    assertEquals(0, accept(controller, ROW, 1000).stream().filter(OptionalInt::isPresent).count());
+    assertEquals(1010, controller.getRowsRead());
+    assertEquals(1, controller.getFetchSizeChanges());
+  }
+
+  @Test
+  void testFetchSizeBounds() {
+    final AdaptiveFetchSizeController wideRowsController = new AdaptiveFetchSizeController(ROW_BYTES);
+    accept(wideRowsController, ROW, 10);
+    assertEquals(AdaptiveFetchSizeController.MIN_FETCH_SIZE, wideRowsController.getFetchSize());
+
+    final AdaptiveFetchSizeController narrowRowsController = new AdaptiveFetchSizeController(Long.MAX_VALUE);
+    assertEquals(OptionalInt.of(AdaptiveFetchSizeController.MAX_FETCH_SIZE), accept(narrowRowsController, ROW, 10).get(9));
+  }
+
+  @Test
+  void testRetunesWhenRowsGrow() {
+    final AdaptiveFetchSizeController controller = new AdaptiveFetchSizeController(ROW_BYTES * 1000);
+    accept(controller, ROW, 10);
+    assertEquals(1000, controller.getFetchSize());
+
+    // rows 10 times as large, only one in a hundred of which is sampled.
+    final JsonNode wideRow = Jsons.jsonNode(ImmutableMap.of("id", 1, "name", Strings.repeat("a", 90 + 9 * (int) ROW_BYTES)));
+    final List<OptionalInt> changes = accept(controller, wideRow, 1000);
+    assertEquals(1, changes.stream().filter(OptionalInt::isPresent).count());
+    // 10 samples of ROW_BYTES and 10 of 10 * ROW_BYTES.
+    assertEquals(ROW_BYTES * 1000 / (ROW_BYTES * 11 / 2), changes.get(changes.size() - 1).getAsInt());
+    assertEquals(10 * ROW_BYTES, controller.getMaxRowBytes());
+  }
+
+  @Test
+  void testStopTuning() {
+    final AdaptiveFetchSizeController controller = new AdaptiveFetchSizeController(ROW_BYTES * 500);
+    controller.stopTuning();
+
+    assertEquals(0, accept(controller, ROW, 100).stream().filter(OptionalInt::isPresent).count());
+    assertEquals(AdaptiveFetchSizeController.INITIAL_FETCH_SIZE, controller.getFetchSize());
+    assertEquals(ROW_BYTES, controller.getMeanRowBytes());
+  }
+
+  private static List<OptionalInt> accept(final AdaptiveFetchSizeController controller, final JsonNode row, final int count) {
+    final List<OptionalInt> changes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      changes.add(controller.accept(row));
+    }
+    return changes;
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.commons.json.Jsons;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.jupiter.api.Test;
+
+class TestJdbcSourceOperations {
+
+  private final JdbcSourceOperations sourceOperations = new JdbcSourceOperations();
+
+  @Test
+  void testColumnMetadataIsResolvedOncePerResultSet() throws SQLException {
+    final ResultSetMetaData metaData = mockMetaData();
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(resultSet.getObject(1)).thenReturn(1, 2, 3);
+    when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+    when(resultSet.getObject(2)).thenReturn("picard", null, "vash");
+    when(resultSet.getString(2)).thenReturn("picard", "vash");
+    when(resultSet.wasNull()).thenReturn(false, false, false, true, false, false);
+
+    final CheckedFunction<ResultSet, JsonNode, SQLException> rowToJson = sourceOperations.getRowToJsonMapper();
+    assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 1, "name", "picard")), rowToJson.apply(resultSet));
+    assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 2)), rowToJson.apply(resultSet));
+    assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 3, "name", "vash")), rowToJson.apply(resultSet));
+
+    verify(resultSet, times(1)).getMetaData();
+    verify(metaData, times(1)).getColumnType(1);
+    verify(metaData, times(1)).getColumnName(2);
+  }
+
+  @Test
+  void testColumnMetadataIsResolvedForEachResultSet() throws SQLException {
+    final ResultSetMetaData metaData = mockMetaData();
+    final ResultSet resultSet1 = mockSingleRow(metaData);
+    final ResultSet resultSet2 = mockSingleRow(metaData);
+
+    final CheckedFunction<ResultSet, JsonNode, SQLException> rowToJson = sourceOperations.getRowToJsonMapper();
+    rowToJson.apply(resultSet1);
+    rowToJson.apply(resultSet2);
+
+    verify(resultSet1, times(1)).getMetaData();
+    verify(resultSet2, times(1)).getMetaData();
+  }
+
+  @Test
+  void testSetJsonFieldOverrideIsUsed() throws SQLException {
+    final JdbcSourceOperations overridingOperations = new JdbcSourceOperations() {
+
+      @Override
+      public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
+        json.put(resultSet.getMetaData().getColumnName(colIndex), "overridden");
+      }
+
+    };
+    final ResultSet resultSet = mockSingleRow(mockMetaData());
+
+    assertEquals(Jsons.jsonNode(ImmutableMap.of("id", "overridden", "name", "overridden")),
+        overridingOperations.getRowToJsonMapper().apply(resultSet));
+  }
+
+  private static ResultSetMetaData mockMetaData() throws SQLException {
+    final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(2);
+    when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(metaData.getColumnName(1)).thenReturn("id");
+    when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(metaData.getColumnName(2)).thenReturn("name");
+    return metaData;
+  }
+
+  private static ResultSet mockSingleRow(final ResultSetMetaData metaData) throws SQLException {
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(resultSet.getObject(1)).thenReturn(1);
+    when(resultSet.getInt(1)).thenReturn(1);
+    when(resultSet.getObject(2)).thenReturn("picard");
+    when(resultSet.getString(2)).thenReturn("picard");
+    return resultSet;
+  }
+
+}
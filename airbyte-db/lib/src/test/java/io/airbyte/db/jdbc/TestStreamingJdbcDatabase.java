@@ -5,6 +5,7 @@
 package io.airbyte.db.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -20,6 +21,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +45,7 @@ public class TestStreamingJdbcDatabase {
   private JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
   private JdbcDatabase defaultJdbcDatabase;
   private JdbcDatabase streamingJdbcDatabase;
+  private BasicDataSource connectionPool;
   private final JdbcSourceOperations sourceOperations = JdbcUtils.getDefaultSourceOperations();
 
   @BeforeAll
@@ -64,7 +67,7 @@ public class TestStreamingJdbcDatabase {
     final String tmpFilePath = IOs.writeFileToRandomTmpDir(initScriptName, "CREATE DATABASE " + dbName + ";");
     PostgreSQLContainerHelper.runSqlScript(MountableFile.forHostPath(tmpFilePath), PSQL_DB);
 
-    final BasicDataSource connectionPool = new BasicDataSource();
+    connectionPool = new BasicDataSource();
     connectionPool.setDriverClassName("org.postgresql.Driver");
     connectionPool.setUsername(config.get("username").asText());
     connectionPool.setPassword(config.get("password").asText());
@@ -107,6 +110,49 @@ public class TestStreamingJdbcDatabase {
     verify(jdbcStreamingQueryConfiguration).accept(connection1.get(), ps1.get());
   }
 
+  @Test
+  void testQueryWithAdaptiveFetchSize() throws SQLException {
+    defaultJdbcDatabase.execute(connection -> connection.createStatement()
+        .execute("INSERT INTO id_and_name (id, name) SELECT i, 'ensign' FROM generate_series(4, 1000) AS i;"));
+    // a budget of about 500 rows per fetch.
+    final long rowBytes = Jsons.serialize(RECORDS_AS_JSON.get(0)).length();
+    final AtomicReference<AdaptiveFetchSizeController> fetchSizeController = new AtomicReference<>();
+    final JdbcDatabase adaptiveJdbcDatabase = new StreamingJdbcDatabase(connectionPool, sourceOperations,
+        new AdaptiveJdbcStreamingQueryConfiguration(500 * rowBytes) {
+
+          @Override
+          public Optional<AdaptiveFetchSizeController> createFetchSizeController() {
+            final Optional<AdaptiveFetchSizeController> controller = super.createFetchSizeController();
+            fetchSizeController.set(controller.orElseThrow());
+            return controller;
+          }
+
+        });
+
+    final List<JsonNode> records;
+    try (final Stream<JsonNode> actual = adaptiveJdbcDatabase.unsafeQuery(
+        connection -> connection.prepareStatement("SELECT * FROM id_and_name ORDER BY id;"),
+        sourceOperations::rowToJson)) {
+      records = actual.collect(Collectors.toList());
+    }
+    assertEquals(1000, records.size());
+    assertEquals(RECORDS_AS_JSON, records.subList(0, 3));
+    // the fetch size is only changed by more than a fifth, and ids of 4 digits make rows slightly
+    // larger.
+    assertEquals(500, fetchSizeController.get().getFetchSize(), 500 * 0.2);
+
+    // rows about ten times as large are fetched about ten times fewer at a time.
+    try (final Stream<JsonNode> actual = adaptiveJdbcDatabase.unsafeQuery(
+        connection -> connection.prepareStatement("SELECT id, repeat(name, 40) AS name FROM id_and_name ORDER BY id;"),
+        sourceOperations::rowToJson)) {
+      assertEquals(1000, actual.count());
+    }
+    final AdaptiveFetchSizeController largeRowsController = fetchSizeController.get();
+    assertEquals(500 * rowBytes / largeRowsController.getMeanRowBytes(), largeRowsController.getFetchSize(),
+        largeRowsController.getFetchSize() * 0.2);
+    assertTrue(largeRowsController.getFetchSize() < 100);
+  }
+
   private JsonNode getConfig(final PostgreSQLContainer<?> psqlDb, final String dbName) {
     return Jsons.jsonNode(ImmutableMap.builder()
         .put("host", psqlDb.getHost())
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading the destination input stream with the {@link Scanner} that
+ * {@link IntegrationRunner#consumeWriteStream} used to rely on against {@link JsonLinesReader}. Each
+ * invocation reads about 10MB of record messages of the given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConsumeWriteStreamBenchmark {
+
+  private static final int INPUT_SIZE_BYTES = 10 * 1024 * 1024;
+
+  @Param({"1024", "102400"})
+  public int recordSizeBytes;
+
+  private byte[] input;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final String line = Jsons.serialize(new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withEmittedAt(1L)
+            .withData(Jsons.jsonNode(Map.of("id", 1, "name", "a".repeat(recordSizeBytes))))))
+        + "\n";
+    input = line.repeat(Math.max(1, INPUT_SIZE_BYTES / line.length())).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void scanner(final Blackhole blackhole) {
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input), StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    while (scanner.hasNext()) {
+      final Optional<AirbyteMessage> message = Jsons.tryDeserialize(scanner.next(), AirbyteMessage.class);
+      blackhole.consume(message);
+    }
+  }
+
+  @Benchmark
+  public void jsonLinesReader(final Blackhole blackhole) throws Exception {
+    new JsonLinesReader(new ByteArrayInputStream(input)).forEachLine((buffer, offset, length) -> {
+      final Optional<AirbyteMessage> message = Jsons.tryDeserialize(buffer, offset, length, AirbyteMessage.class);
+      blackhole.consume(message);
+    });
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes messages to an output stream (stdout by default) as json lines, like
+ * {@link Destination#defaultOutputRecordCollector(AirbyteMessage)}, but much faster when emitting
+ * many records: messages are serialized by a single streaming generator into a reusable buffer,
+ * which is written to the output stream in large chunks.
+ *
+ * <p>
+ * The buffer is written out when it grows over a size threshold, when any message other than a
+ * record is accepted (so that state, trace and log messages are never delayed), periodically so that
+ * records keep flowing when a connector emits them slowly, and when the collector is closed.
+ * Buffered records are lost if the collector is not closed. If a periodic write fails, the failure
+ * is thrown by the next call to {@link #accept(AirbyteMessage)} or {@link #close()}.
+ */
+public class BufferedOutputRecordCollector implements Consumer<AirbyteMessage>, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BufferedOutputRecordCollector.class);
+
+  @VisibleForTesting
+  static final int DEFAULT_FLUSH_THRESHOLD_BYTES = 1024 * 1024;
+  private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+  // a dedicated mapper, configured like the one used by Jsons, so that messages are serialized the
+  // same way.
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
+
+  private final OutputStream outputStream;
+  private final int flushThresholdBytes;
+  private final ByteArrayOutputStream buffer;
+  private final JsonGenerator generator;
+  private final ScheduledExecutorService flushScheduler;
+
+  private volatile RuntimeException periodicFlushFailure;
+
+  public BufferedOutputRecordCollector() {
+    this(System.out, DEFAULT_FLUSH_THRESHOLD_BYTES, DEFAULT_FLUSH_INTERVAL);
+  }
+
+  /**
+   * @param outputStream stream the messages are written to. writes are done in one call per chunk,
+   *        so a {@link java.io.PrintStream} shared with other writers never interleaves a line.
+   * @param flushThresholdBytes size of the buffered messages above which they are written out
+   * @param flushInterval maximum time buffered records wait before being written out. if null, they
+   *        are only written out when reaching the size threshold or on non-record messages.
+   */
+  @VisibleForTesting
+  BufferedOutputRecordCollector(final OutputStream outputStream, final int flushThresholdBytes, final Duration flushInterval) {
+    this.outputStream = outputStream;
+    this.flushThresholdBytes = flushThresholdBytes;
+    this.buffer = new ByteArrayOutputStream(flushThresholdBytes + flushThresholdBytes / 4);
+    try {
+      this.generator = OBJECT_MAPPER.getFactory().createGenerator(buffer);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // messages are separated by new lines, written after each of them.
+    generator.setRootValueSeparator(null);
+
+    if (flushInterval != null) {
+      flushScheduler = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+          .namingPattern("output-flush-%d")
+          .daemon(true)
+          .build());
+      flushScheduler.scheduleAtFixedRate(this::periodicFlush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    } else {
+      flushScheduler = null;
+    }
+  }
+
+  @Override
+  public synchronized void accept(final AirbyteMessage message) {
+    throwIfPeriodicFlushFailed();
+    try {
+      OBJECT_MAPPER.writeValue(generator, message);
+      generator.writeRaw('\n');
+      generator.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    if (message.getType() != Type.RECORD || buffer.size() >= flushThresholdBytes) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes out the buffered messages.
+   */
+  public synchronized void flush() {
+    if (buffer.size() == 0) {
+      return;
+    }
+    try {
+      buffer.writeTo(outputStream);
+      outputStream.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      buffer.reset();
+    }
+  }
+
+  /**
+   * A scheduled task stops after throwing, and nothing else would notice it, so the failure is kept
+   * to be thrown by the next call from the connector.
+   */
+  private synchronized void periodicFlush() {
+    try {
+      flush();
+    } catch (final RuntimeException e) {
+      LOGGER.error("Failed to write out buffered messages.", e);
+      periodicFlushFailure = e;
+      throw e;
+    }
+  }
+
+  private void throwIfPeriodicFlushFailed() {
+    if (periodicFlushFailure != null) {
+      throw new IllegalStateException("Failed to write out buffered messages", periodicFlushFailure);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (flushScheduler != null) {
+      flushScheduler.shutdownNow();
+    }
+    throwIfPeriodicFlushFailed();
+    flush();
+  }
+
+}
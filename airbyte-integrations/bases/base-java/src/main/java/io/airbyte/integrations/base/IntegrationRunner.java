@@ -32,7 +32,6 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -66,11 +65,11 @@ public class IntegrationRunner {
   private static JsonSchemaValidator validator;
 
   public IntegrationRunner(final Destination destination) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, destination, null);
+    this(new IntegrationCliParser(), new BufferedOutputRecordCollector(), destination, null);
   }
 
   public IntegrationRunner(final Source source) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source);
+    this(new IntegrationCliParser(), new BufferedOutputRecordCollector(), null, source);
   }
 
   @VisibleForTesting
@@ -101,19 +100,24 @@ public class IntegrationRunner {
   public void run(final String[] args) throws Exception {
     final IntegrationConfig parsed = cliParser.parse(args);
     final ITransaction transaction = createSentryTransaction(integration.getClass(), parsed.getCommand());
-    try {
-      runInternal(parsed);
-      transaction.finish(SpanStatus.OK);
-    } catch (final Exception e) {
-      transaction.setThrowable(e);
-      transaction.finish(SpanStatus.INTERNAL_ERROR);
-      throw e;
-    } finally {
-      /*
-       * This finally block may not run, probably because the container can be terminated by the worker.
-       * So the transaction should always be finished in the try and catch blocks.
-       */
-      transaction.finish();
+    // the output may be buffered, make sure every message is emitted before exiting. if the command
+    // failed, a failure to close the output is suppressed by the failure of the command.
+    final AutoCloseable outputCloser = outputRecordCollector instanceof AutoCloseable closeable ? closeable : () -> {};
+    try (outputCloser) {
+      try {
+        runInternal(parsed);
+        transaction.finish(SpanStatus.OK);
+      } catch (final Exception e) {
+        transaction.setThrowable(e);
+        transaction.finish(SpanStatus.INTERNAL_ERROR);
+        throw e;
+      } finally {
+        /*
+         * This finally block may not run, probably because the container can be terminated by the worker.
+         * So the transaction should always be finished in the try and catch blocks.
+         */
+        transaction.finish();
+      }
     }
   }
 
@@ -171,19 +175,18 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    // lines are only split on new line characters to strictly abide with the https://jsonlines.org/
+    // standard. they are parsed straight from the read buffer, without being decoded to strings.
+    final JsonLinesReader input = new JsonLinesReader(System.in);
     consumer.start();
-    while (input.hasNext()) {
-      final String inputString = input.next();
-      final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
+    input.forEachLine((buffer, offset, length) -> {
+      final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(buffer, offset, length, AirbyteMessage.class);
       if (messageOptional.isPresent()) {
         consumer.accept(messageOptional.get());
       } else {
-        LOGGER.error("Received invalid message: " + inputString);
+        LOGGER.error("Received invalid message: " + new String(buffer, offset, length, StandardCharsets.UTF_8));
       }
-    }
+    });
   }
 
   private static void runConsumer(final AirbyteMessageConsumer consumer) throws Exception {
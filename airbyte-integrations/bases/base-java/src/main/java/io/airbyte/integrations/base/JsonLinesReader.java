@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads an input stream of json lines (https://jsonlines.org/) and hands each line to a consumer as
+ * a range of bytes in a shared buffer, so that lines can be parsed without being decoded to a String
+ * first.
+ *
+ * <p>
+ * Both \n and \r end a line, and empty lines are skipped. Lines are never split: the buffer grows to
+ * fit lines that are longer than it.
+ */
+public class JsonLinesReader {
+
+  @VisibleForTesting
+  static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  @FunctionalInterface
+  public interface LineConsumer {
+
+    /**
+     * @param buffer buffer holding the line. its content is only valid for the duration of the call.
+     * @param offset start of the line in the buffer
+     * @param length length of the line in bytes, without the line terminator
+     */
+    void accept(byte[] buffer, int offset, int length) throws Exception;
+
+  }
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+
+  public JsonLinesReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_BUFFER_SIZE);
+  }
+
+  @VisibleForTesting
+  JsonLinesReader(final InputStream inputStream, final int bufferSize) {
+    Preconditions.checkArgument(bufferSize > 0, "buffer size must be positive");
+    this.inputStream = inputStream;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Reads the input stream until its end, passing each line to the consumer in order. Exceptions
+   * thrown by the consumer stop the reading and are rethrown.
+   */
+  public void forEachLine(final LineConsumer consumer) throws Exception {
+    // the buffer holds [lineStart, end): lines not handed out yet. [lineStart, scanned) has no line
+    // terminator.
+    int lineStart = 0;
+    int scanned = 0;
+    int end = 0;
+    while (true) {
+      for (; scanned < end; scanned++) {
+        final byte b = buffer[scanned];
+        if (b == '\n' || b == '\r') {
+          if (scanned > lineStart) {
+            consumer.accept(buffer, lineStart, scanned - lineStart);
+          }
+          lineStart = scanned + 1;
+        }
+      }
+
+      if (lineStart > 0) {
+        // move the incomplete line to the start of the buffer to make room for the next read.
+        System.arraycopy(buffer, lineStart, buffer, 0, end - lineStart);
+        end -= lineStart;
+        scanned -= lineStart;
+        lineStart = 0;
+      } else if (end == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+
+      final int read = inputStream.read(buffer, end, buffer.length - end);
+      if (read < 0) {
+        break;
+      }
+      end += read;
+    }
+
+    if (end > lineStart) {
+      consumer.accept(buffer, lineStart, end - lineStart);
+    }
+  }
+
+}
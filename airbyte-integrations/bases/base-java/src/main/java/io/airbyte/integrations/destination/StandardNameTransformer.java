@@ -4,18 +4,26 @@
 
 package io.airbyte.integrations.destination;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.commons.text.Names;
-import io.airbyte.commons.util.MoreIterators;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Set;
 
 public class StandardNameTransformer implements NamingConventionTransformer {
 
-  private static final String NON_JSON_PATH_CHARACTERS_PATTERN = "['\"`]";
+  // used to serialize the formatted json, same as Jsons.serialize
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
 
   @Override
   public String getIdentifier(final String name) {
@@ -55,32 +63,141 @@ public class StandardNameTransformer implements NamingConventionTransformer {
    * underscores) while keeping original property names too. This is needed by some destinations as
    * their json extract functions have limitations on how such special characters are parsed. These
    * naming rules may be different to schema/table/column naming conventions.
+   *
+   * Only the objects which contain such property names, and their parents, are copied: the other
+   * nodes are shared with the given root, which is returned as is when none of its property names need
+   * sanitizing.
    */
   public static JsonNode formatJsonPath(final JsonNode root) {
     if (root.isObject()) {
-      final Map<String, JsonNode> properties = new HashMap<>();
-      final var keys = Jsons.keys(root);
-      for (final var key : keys) {
-        final JsonNode property = root.get(key);
-        // keep original key
-        properties.put(key, formatJsonPath(property));
+      ObjectNode formattedObject = null;
+      int index = 0;
+      for (final Iterator<Entry<String, JsonNode>> it = root.fields(); it.hasNext(); index++) {
+        final Entry<String, JsonNode> property = it.next();
+        final String key = property.getKey();
+        final JsonNode formattedProperty = formatJsonPath(property.getValue());
+        if (formattedObject == null
+            && (formattedProperty != property.getValue() || isNonJsonPathKey(key) && !root.has(formatJsonPathKey(key)))) {
+          formattedObject = copyProperties(root, index);
+        }
+        if (formattedObject != null) {
+          // keep original key
+          formattedObject.set(key, formattedProperty);
+        }
+      }
+      if (formattedObject == null) {
+        return root;
       }
-      for (final var key : keys) {
-        final JsonNode property = root.get(key);
-        final String formattedKey = key.replaceAll(NON_JSON_PATH_CHARACTERS_PATTERN, "_");
-        if (!properties.containsKey(formattedKey)) {
-          // duplicate property in a formatted key to be extracted in normalization
-          properties.put(formattedKey, formatJsonPath(property));
+      for (final Iterator<String> it = root.fieldNames(); it.hasNext();) {
+        final String key = it.next();
+        if (isNonJsonPathKey(key)) {
+          final String formattedKey = formatJsonPathKey(key);
+          if (!formattedObject.has(formattedKey)) {
+            // duplicate property in a formatted key to be extracted in normalization
+            formattedObject.set(formattedKey, formattedObject.get(key));
+          }
         }
       }
-      return Jsons.jsonNode(properties);
+      return formattedObject;
     } else if (root.isArray()) {
-      return Jsons.jsonNode(MoreIterators.toList(root.elements()).stream()
-          .map(StandardNameTransformer::formatJsonPath)
-          .collect(Collectors.toList()));
+      ArrayNode formattedArray = null;
+      for (int i = 0; i < root.size(); i++) {
+        final JsonNode formattedElement = formatJsonPath(root.get(i));
+        if (formattedArray == null && formattedElement != root.get(i)) {
+          formattedArray = Jsons.arrayNode();
+          for (int j = 0; j < i; j++) {
+            formattedArray.add(root.get(j));
+          }
+        }
+        if (formattedArray != null) {
+          formattedArray.add(formattedElement);
+        }
+      }
+      return formattedArray == null ? root : formattedArray;
     } else {
       return root;
     }
   }
 
+  /**
+   * Serialize the same json as {@link #formatJsonPath(JsonNode)}, writing it directly instead of
+   * building the formatted tree first.
+   */
+  public static String serializeJsonPath(final JsonNode root) {
+    final StringWriter writer = new StringWriter();
+    try (final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+      writeJsonPath(root, generator);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return writer.toString();
+  }
+
+  private static void writeJsonPath(final JsonNode root, final JsonGenerator generator) throws IOException {
+    if (root.isObject()) {
+      generator.writeStartObject();
+      for (final Iterator<Entry<String, JsonNode>> it = root.fields(); it.hasNext();) {
+        final Entry<String, JsonNode> property = it.next();
+        generator.writeFieldName(property.getKey());
+        writeJsonPath(property.getValue(), generator);
+      }
+      Set<String> formattedKeys = null;
+      for (final Iterator<Entry<String, JsonNode>> it = root.fields(); it.hasNext();) {
+        final Entry<String, JsonNode> property = it.next();
+        if (isNonJsonPathKey(property.getKey())) {
+          final String formattedKey = formatJsonPathKey(property.getKey());
+          if (formattedKeys == null) {
+            formattedKeys = new HashSet<>();
+          }
+          if (!root.has(formattedKey) && formattedKeys.add(formattedKey)) {
+            generator.writeFieldName(formattedKey);
+            writeJsonPath(property.getValue(), generator);
+          }
+        }
+      }
+      generator.writeEndObject();
+    } else if (root.isArray()) {
+      generator.writeStartArray();
+      for (final JsonNode element : root) {
+        writeJsonPath(element, generator);
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeTree(root);
+    }
+  }
+
+  private static ObjectNode copyProperties(final JsonNode root, final int count) {
+    final ObjectNode copy = OBJECT_MAPPER.createObjectNode();
+    final Iterator<Entry<String, JsonNode>> it = root.fields();
+    for (int i = 0; i < count; i++) {
+      final Entry<String, JsonNode> property = it.next();
+      copy.set(property.getKey(), property.getValue());
+    }
+    return copy;
+  }
+
+  private static boolean isNonJsonPathKey(final String key) {
+    for (int i = 0; i < key.length(); i++) {
+      if (isNonJsonPathCharacter(key.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String formatJsonPathKey(final String key) {
+    final char[] formattedKey = key.toCharArray();
+    for (int i = 0; i < formattedKey.length; i++) {
+      if (isNonJsonPathCharacter(formattedKey[i])) {
+        formattedKey[i] = '_';
+      }
+    }
+    return new String(formattedKey);
+  }
+
+  private static boolean isNonJsonPathCharacter(final char c) {
+    return c == '\'' || c == '"' || c == '`';
+  }
+
 }
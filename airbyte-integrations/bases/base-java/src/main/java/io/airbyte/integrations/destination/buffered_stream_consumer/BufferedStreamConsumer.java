@@ -164,13 +164,38 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
     streamToIgnoredRecordCount
         .forEach((pair, count) -> LOGGER.warn("A total of {} record(s) of data from stream {} were invalid and were ignored.", count, pair));
-    if (hasFailed) {
-      LOGGER.error("executing on failed close procedure.");
-    } else {
-      LOGGER.info("executing on success close procedure.");
-      bufferingStrategy.flushAll();
+    Exception flushFailure = null;
+    try {
+      if (hasFailed) {
+        LOGGER.error("executing on failed close procedure.");
+      } else {
+        LOGGER.info("executing on success close procedure.");
+        bufferingStrategy.flushAll();
+      }
+    } catch (final Exception e) {
+      flushFailure = e;
+    }
+    try {
+      // buffers flushed asynchronously can still fail while closing.
+      bufferingStrategy.close();
+    } catch (final Exception e) {
+      if (flushFailure == null) {
+        flushFailure = e;
+      } else {
+        flushFailure.addSuppressed(e);
+      }
+    }
+    if (flushFailure != null) {
+      // records were lost, so the failed close procedure still has to run to clean up what was written
+      // so far, such as tmp tables or staged files.
+      LOGGER.error("Failed to flush buffers, executing on failed close procedure.", flushFailure);
+      try {
+        onClose.accept(true);
+      } catch (final Exception e) {
+        flushFailure.addSuppressed(e);
+      }
+      throw flushFailure;
     }
-    bufferingStrategy.close();
 
     try {
       // if no state was emitted (i.e. full refresh), if there were still no failures, then we can
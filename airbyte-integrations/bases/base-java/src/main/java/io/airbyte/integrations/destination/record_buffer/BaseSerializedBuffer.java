@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.record_buffer;
 
 import com.google.common.io.CountingOutputStream;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,12 +29,16 @@ public abstract class BaseSerializedBuffer implements SerializableBuffer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BaseSerializedBuffer.class);
   private static final String GZ_SUFFIX = ".gz";
+  // records are serialized into a buffer of this size, so that they reach the compression and the
+  // storage in large chunks rather than one small write per record.
+  private static final int WRITE_BUFFER_SIZE_BYTES = 256 * 1024;
 
   private final BufferStorage bufferStorage;
   private final CountingOutputStream byteCounter;
 
   private boolean useCompression;
   private GzipCompressorOutputStream compressedBuffer;
+  private BufferedOutputStream writeBuffer;
   private InputStream inputStream;
   private boolean isStarted;
   private boolean isClosed;
@@ -49,7 +54,9 @@ public abstract class BaseSerializedBuffer implements SerializableBuffer {
   }
 
   /**
-   * Initializes the writer objects such that it can now write to the downstream @param outputStream
+   * Initializes the writer objects such that it can now write to the downstream @param outputStream.
+   * The stream is buffered, and only needs to be flushed by {@link #flushWriter()}: writers should
+   * not flush it after each record.
    */
   protected abstract void createWriter(OutputStream outputStream) throws Exception;
 
@@ -81,10 +88,11 @@ public abstract class BaseSerializedBuffer implements SerializableBuffer {
     if (!isStarted) {
       if (useCompression) {
         compressedBuffer = new GzipCompressorOutputStream(byteCounter);
-        createWriter(compressedBuffer);
+        writeBuffer = new BufferedOutputStream(compressedBuffer, WRITE_BUFFER_SIZE_BYTES);
       } else {
-        createWriter(byteCounter);
+        writeBuffer = new BufferedOutputStream(byteCounter, WRITE_BUFFER_SIZE_BYTES);
       }
+      createWriter(writeBuffer);
       isStarted = true;
     }
     if (inputStream == null && !isClosed) {
@@ -127,6 +135,9 @@ public abstract class BaseSerializedBuffer implements SerializableBuffer {
   public void flush() throws IOException {
     if (inputStream == null && !isClosed) {
       flushWriter();
+      if (writeBuffer != null) {
+        writeBuffer.flush();
+      }
       if (compressedBuffer != null) {
         LOGGER.info("Wrapping up compression and write GZIP trailer data.");
         compressedBuffer.flush();
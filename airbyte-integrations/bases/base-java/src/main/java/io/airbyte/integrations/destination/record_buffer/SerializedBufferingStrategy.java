@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import com.google.common.base.Preconditions;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
@@ -14,17 +15,55 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records of each stream in a {@link SerializableBuffer} and flushes them with the
+ * onStreamFlush function when buffers fill up.
+ *
+ * <p>
+ * By default, buffers are flushed on the thread that adds records, one after another. When created
+ * with a number of concurrent flushes, buffers are instead flushed asynchronously on a pool of that
+ * many threads, and a fresh buffer takes the place of the flushed one right away, so that uploads
+ * overlap with reading the next records. Buffers waiting to be flushed still hold their records on
+ * disk or in memory, so the number of such buffers per stream and their total size are capped:
+ * adding a record that fills a buffer blocks until the buffer fits within both limits.
+ * {@link #flushAll()} waits for every pending flush to complete before triggering the flush all
+ * event hook, so that state messages are only released once all the records preceding them are
+ * flushed.
+ *
+ * <p>
+ * Thread safety: buffers of a same stream are flushed one at a time and in order, so per-stream
+ * state updated by onStreamFlush needs no synchronization. Flushes of different streams do run
+ * concurrently, so anything onStreamFlush shares across streams (e.g. a database, a storage client
+ * or staging operations) must be safe to call from several threads at once. This class does not
+ * synchronize these calls itself.
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
 
+  /**
+   * Number of concurrent flushes used by destinations that stage buffers to cloud storage.
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_FLUSHES = 4;
+  /**
+   * By default, a stream can fill a new buffer while its previous buffer is being flushed.
+   */
+  public static final int DEFAULT_MAX_PENDING_FLUSHES_PER_STREAM = 1;
+
   private final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer;
   private final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush;
   private VoidCallable onFlushAllEventHook;
@@ -33,14 +72,70 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
 
+  // only set when flushing asynchronously.
+  private final ExecutorService flushExecutor;
+  private final Map<AirbyteStreamNameNamespacePair, CompletableFuture<Void>> streamToLastFlush;
+  private final int maxPendingFlushesPerStream;
+  private final long maxPendingFlushBytes;
+  // guarded by pendingFlushLock, as flushes complete on the flush threads.
+  private final Object pendingFlushLock = new Object();
+  private final Map<AirbyteStreamNameNamespacePair, Integer> streamToPendingFlushCount = new HashMap<>();
+  private long pendingFlushBytes = 0;
+
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, 0);
+  }
+
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentFlushes) {
+    this(onCreateBuffer, catalog, onStreamFlush, maxConcurrentFlushes, DEFAULT_MAX_PENDING_FLUSHES_PER_STREAM, 0);
+  }
+
+  /**
+   * @param onStreamFlush flushes a buffer of a stream. With concurrent flushes, it is called from
+   *        several threads at once for different streams, see the class documentation.
+   * @param maxConcurrentFlushes number of buffers that can be flushed at the same time. If zero,
+   *        buffers are flushed synchronously and the other limits are ignored.
+   * @param maxPendingFlushesPerStream number of buffers of a stream that can wait to be flushed or be
+   *        flushing, in addition to the buffer being filled.
+   * @param maxPendingFlushBytes total size of the buffers that can wait to be flushed or be flushing.
+   *        A buffer larger than this is still flushed, once no other buffer is pending. If zero, the
+   *        max total buffer size of the buffers is used, so that buffered records take at most twice
+   *        the space they take when flushing synchronously.
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentFlushes,
+                                     final int maxPendingFlushesPerStream,
+                                     final long maxPendingFlushBytes) {
+    Preconditions.checkArgument(maxPendingFlushesPerStream > 0, "maxPendingFlushesPerStream must be positive");
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
     this.onFlushAllEventHook = null;
+    if (maxConcurrentFlushes > 0) {
+      this.flushExecutor = Executors.newFixedThreadPool(maxConcurrentFlushes, new BasicThreadFactory.Builder()
+          .namingPattern("buffer-flush-%d")
+          // daemon threads don't prevent the connector from exiting if the buffers are never closed.
+          .daemon(true)
+          .build());
+      this.streamToLastFlush = new HashMap<>();
+    } else {
+      this.flushExecutor = null;
+      this.streamToLastFlush = null;
+    }
+    this.maxPendingFlushesPerStream = maxPendingFlushesPerStream;
+    this.maxPendingFlushBytes = maxPendingFlushBytes;
+  }
+
+  private boolean isFlushingAsynchronously() {
+    return flushExecutor != null;
   }
 
   @Override
@@ -50,6 +145,9 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    if (isFlushingAsynchronously()) {
+      throwIfAnyFlushFailed();
+    }
 
     final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
       LOGGER.info("Starting a new buffer for stream {} (current state: {} in {} buffers)",
@@ -79,6 +177,14 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    if (isFlushingAsynchronously()) {
+      // the buffer is only removed once its flush is scheduled, so that it is still closed with the other
+      // buffers if waiting for its flush to be scheduled is interrupted.
+      flushAsynchronously(stream, writer);
+      totalBufferSizeInBytes -= writer.getByteCount();
+      allBuffers.remove(stream);
+      return;
+    }
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       onStreamFlush.accept(stream, writer);
@@ -90,6 +196,24 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushAll() throws Exception {
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    if (isFlushingAsynchronously()) {
+      final long bufferSizeInBytes = totalBufferSizeInBytes;
+      AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
+        final Iterator<Entry<AirbyteStreamNameNamespacePair, SerializableBuffer>> buffers = allBuffers.entrySet().iterator();
+        while (buffers.hasNext()) {
+          final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry = buffers.next();
+          flushAsynchronously(entry.getKey(), entry.getValue());
+          buffers.remove();
+        }
+        waitForPendingFlushes();
+      }, Map.of("bufferSizeInBytes", bufferSizeInBytes));
+
+      if (onFlushAllEventHook != null) {
+        onFlushAllEventHook.call();
+      }
+      totalBufferSizeInBytes = 0;
+      return;
+    }
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
         LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
@@ -105,6 +229,90 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     totalBufferSizeInBytes = 0;
   }
 
+  /**
+   * Schedules the flush of a buffer, which then closes it. If interrupted while waiting for the flush
+   * to fit within the limits, nothing is scheduled and the buffer is left to the caller.
+   */
+  private void flushAsynchronously(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws InterruptedException {
+    final long bufferSizeInBytes = writer.getByteCount();
+    LOGGER.info("Scheduling flush of buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(bufferSizeInBytes));
+    reservePendingFlush(stream, bufferSizeInBytes,
+        maxPendingFlushBytes > 0 ? maxPendingFlushBytes : writer.getMaxTotalBufferSizeInBytes());
+    // chaining on the previous flush of the stream keeps flushes of a same stream sequential.
+    final CompletableFuture<Void> previousFlush = streamToLastFlush.getOrDefault(stream, CompletableFuture.completedFuture(null));
+    streamToLastFlush.put(stream, previousFlush.handleAsync((ignored, previousFailure) -> {
+      try (writer) {
+        if (previousFailure != null) {
+          // the buffer is dropped: once a flush failed, the stream can't be flushed successfully.
+          throw previousFailure instanceof CompletionException ? (CompletionException) previousFailure : new CompletionException(previousFailure);
+        }
+        AirbyteSentry.executeWithTracing("FlushBuffer", () -> onStreamFlush.accept(stream, writer),
+            Map.of("bufferSizeInBytes", bufferSizeInBytes));
+        return null;
+      } catch (final CompletionException e) {
+        throw e;
+      } catch (final Exception e) {
+        LOGGER.error("Failed to flush buffer of stream {}", stream.getName(), e);
+        throw new CompletionException(e);
+      } finally {
+        releasePendingFlush(stream, bufferSizeInBytes);
+      }
+    }, flushExecutor));
+  }
+
+  /**
+   * Blocks until a buffer of the given size can wait to be flushed within the limits, and accounts
+   * for it.
+   */
+  private void reservePendingFlush(final AirbyteStreamNameNamespacePair stream, final long bufferSizeInBytes, final long maxBytes)
+      throws InterruptedException {
+    synchronized (pendingFlushLock) {
+      boolean logged = false;
+      while (streamToPendingFlushCount.getOrDefault(stream, 0) >= maxPendingFlushesPerStream
+          || (pendingFlushBytes > 0 && pendingFlushBytes + bufferSizeInBytes > maxBytes)) {
+        if (!logged) {
+          LOGGER.info("Waiting for pending flushes to complete before flushing buffer of stream {} ({} pending)", stream.getName(),
+              FileUtils.byteCountToDisplaySize(pendingFlushBytes));
+          logged = true;
+        }
+        pendingFlushLock.wait();
+      }
+      streamToPendingFlushCount.merge(stream, 1, Integer::sum);
+      pendingFlushBytes += bufferSizeInBytes;
+    }
+  }
+
+  private void releasePendingFlush(final AirbyteStreamNameNamespacePair stream, final long bufferSizeInBytes) {
+    synchronized (pendingFlushLock) {
+      streamToPendingFlushCount.merge(stream, -1, Integer::sum);
+      pendingFlushBytes -= bufferSizeInBytes;
+      pendingFlushLock.notifyAll();
+    }
+  }
+
+  /**
+   * Surfaces failures of asynchronous flushes as early as possible, instead of waiting for the next
+   * flush of all buffers.
+   */
+  private void throwIfAnyFlushFailed() throws Exception {
+    if (streamToLastFlush.values().stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+      waitForPendingFlushes();
+    }
+  }
+
+  private void waitForPendingFlushes() throws Exception {
+    final List<CompletableFuture<Void>> pendingFlushes = new ArrayList<>(streamToLastFlush.values());
+    streamToLastFlush.clear();
+    try {
+      CompletableFuture.allOf(pendingFlushes.toArray(new CompletableFuture[0])).get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
@@ -114,6 +322,15 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void close() throws Exception {
     final List<Exception> exceptionsThrown = new ArrayList<>();
+    if (isFlushingAsynchronously()) {
+      try {
+        waitForPendingFlushes();
+      } catch (final Exception e) {
+        exceptionsThrown.add(e);
+        LOGGER.error("Exception while flushing stream buffers", e);
+      }
+      flushExecutor.shutdown();
+    }
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
         LOGGER.info("Closing buffer for stream {}", entry.getKey().getName());
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BufferedOutputRecordCollectorTest {
+
+  private static final AirbyteMessage RECORD_MESSAGE = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withStream("users")
+          .withEmittedAt(1L)
+          .withData(Jsons.deserialize("{ \"name\": \"r\u00e9my\", \"age\": 30 }")));
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }")));
+
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  @Test
+  void testWritesMessagesLikeDefaultCollector() {
+    try (final BufferedOutputRecordCollector collector = new BufferedOutputRecordCollector(output, 1024, null)) {
+      collector.accept(RECORD_MESSAGE);
+      collector.accept(RECORD_MESSAGE);
+      collector.accept(STATE_MESSAGE);
+    }
+
+    final String expectedRecord = Jsons.serialize(RECORD_MESSAGE) + "\n";
+    assertEquals(expectedRecord + expectedRecord + Jsons.serialize(STATE_MESSAGE) + "\n", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testBuffersRecordsUntilSizeThreshold() {
+    final int recordSize = (Jsons.serialize(RECORD_MESSAGE) + "\n").getBytes(StandardCharsets.UTF_8).length;
+    final BufferedOutputRecordCollector collector = new BufferedOutputRecordCollector(output, recordSize * 3, null);
+
+    collector.accept(RECORD_MESSAGE);
+    collector.accept(RECORD_MESSAGE);
+    assertEquals(0, output.size());
+
+    collector.accept(RECORD_MESSAGE);
+    assertEquals(recordSize * 3, output.size());
+
+    collector.accept(RECORD_MESSAGE);
+    assertEquals(recordSize * 3, output.size());
+    collector.close();
+    assertEquals(recordSize * 4, output.size());
+  }
+
+  @Test
+  void testFlushesOnStateMessages() {
+    final BufferedOutputRecordCollector collector = new BufferedOutputRecordCollector(output, 1024 * 1024, null);
+
+    collector.accept(RECORD_MESSAGE);
+    assertEquals(0, output.size());
+    collector.accept(STATE_MESSAGE);
+    assertEquals(Jsons.serialize(RECORD_MESSAGE) + "\n" + Jsons.serialize(STATE_MESSAGE) + "\n", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testFlushesPeriodically() throws InterruptedException {
+    try (final BufferedOutputRecordCollector collector = new BufferedOutputRecordCollector(output, 1024 * 1024, Duration.ofMillis(50))) {
+      collector.accept(RECORD_MESSAGE);
+
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (output.size() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(Jsons.serialize(RECORD_MESSAGE) + "\n", output.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testThrowsPeriodicFlushFailure() throws InterruptedException {
+    final AtomicInteger writeAttempts = new AtomicInteger();
+    final OutputStream failingOutput = new OutputStream() {
+
+      @Override
+      public void write(final int b) throws IOException {
+        writeAttempts.incrementAndGet();
+        throw new IOException("broken pipe");
+      }
+
+    };
+    final BufferedOutputRecordCollector collector = new BufferedOutputRecordCollector(failingOutput, 1024 * 1024, Duration.ofMillis(50));
+    collector.accept(RECORD_MESSAGE);
+
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (writeAttempts.get() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThrows(IllegalStateException.class, () -> collector.accept(RECORD_MESSAGE));
+    assertThrows(IllegalStateException.class, collector::close);
+  }
+
+}
@@ -120,6 +120,24 @@ class IntegrationRunnerTest {
     verify(stdoutConsumer).accept(new AirbyteMessage().withType(Type.SPEC).withSpec(output));
   }
 
+  @Test
+  void testOutputCloseFailureDoesNotHideCommandFailure() throws Exception {
+    final RuntimeException commandFailure = new RuntimeException("spec failed");
+    final IOException closeFailure = new IOException("output closed");
+    final CloseableOutputRecordCollector outputRecordCollector = mock(CloseableOutputRecordCollector.class);
+    doThrow(closeFailure).when(outputRecordCollector).close();
+
+    when(cliParser.parse(ARGS)).thenReturn(IntegrationConfig.spec());
+    when(source.spec()).thenThrow(commandFailure);
+
+    final IntegrationRunner runner = new IntegrationRunner(cliParser, outputRecordCollector, null, source);
+    final Exception thrown = assertThrows(RuntimeException.class, () -> runner.run(ARGS));
+
+    assertEquals(commandFailure, thrown);
+    assertEquals(List.of(closeFailure), List.of(thrown.getSuppressed()));
+    verify(outputRecordCollector).close();
+  }
+
   @Test
   void testSpecDestination() throws Exception {
     final IntegrationConfig intConfig = IntegrationConfig.spec();
@@ -377,4 +395,6 @@ class IntegrationRunnerTest {
     assertEquals("1.0.1-alpha", IntegrationRunner.parseConnectorVersion(":1.0.1-alpha"));
   }
 
+  interface CloseableOutputRecordCollector extends Consumer<AirbyteMessage>, AutoCloseable {}
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonLinesReaderTest {
+
+  @Test
+  void testSplitsOnNewLineCharacters() throws Exception {
+    assertEquals(List.of("{\"a\":1}", "{\"b\":2}", "{\"c\":3}", "{\"d\":4}"),
+        readLines("{\"a\":1}\n{\"b\":2}\r\n\n{\"c\":3}\r{\"d\":4}\n", JsonLinesReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testLastLineWithoutTerminator() throws Exception {
+    assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), readLines("{\"a\":1}\n{\"b\":2}", JsonLinesReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    assertEquals(List.of(), readLines("", JsonLinesReader.DEFAULT_BUFFER_SIZE));
+    assertEquals(List.of(), readLines("\n\r\n", JsonLinesReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testLinesLongerThanBuffer() throws Exception {
+    final String longLine = "{\"data\":\"" + "\u00e9".repeat(50) + "\"}";
+    assertEquals(List.of("{}", longLine, "{\"a\":1}", longLine),
+        readLines("{}\n" + longLine + "\n{\"a\":1}\n" + longLine, 4));
+  }
+
+  @Test
+  void testConsumerExceptionIsRethrown() {
+    final JsonLinesReader reader = new JsonLinesReader(new ByteArrayInputStream("{}\n{}".getBytes(StandardCharsets.UTF_8)));
+    assertThrows(IOException.class, () -> reader.forEachLine((buffer, offset, length) -> {
+      throw new IOException("error");
+    }));
+  }
+
+  private static List<String> readLines(final String input, final int bufferSize) throws Exception {
+    final List<String> lines = new ArrayList<>();
+    new JsonLinesReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize)
+        .forEachLine((buffer, offset, length) -> lines.add(new String(buffer, offset, length, StandardCharsets.UTF_8)));
+    return lines;
+  }
+
+}
@@ -5,7 +5,10 @@
 package io.airbyte.integrations.base;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.StandardNameTransformer;
@@ -35,6 +38,45 @@ class NameTransformerTest {
     assertEquals("_airbyte_raw_identifier_name", namingResolver.getRawTableName("identifier_name"));
   }
 
+  @Test
+  void testFormatJsonPath() {
+    final JsonNode data = Jsons.deserialize("""
+        {
+          "id": 1,
+          "user's name": "goku",
+          "nested": {"`key`": [{"a\\"b": true}], "clean": {"key": "value"}},
+          "list": [{"key": 1}, {"key's": 2}],
+          "dup'key": 3,
+          "dup_key": 4
+        }""");
+    final JsonNode expected = Jsons.deserialize("""
+        {
+          "id": 1,
+          "user's name": "goku",
+          "user_s name": "goku",
+          "nested": {"`key`": [{"a\\"b": true, "a_b": true}], "_key_": [{"a\\"b": true, "a_b": true}], "clean": {"key": "value"}},
+          "list": [{"key": 1}, {"key's": 2, "key_s": 2}],
+          "dup'key": 3,
+          "dup_key": 4
+        }""");
+
+    final JsonNode formattedData = StandardNameTransformer.formatJsonPath(data);
+
+    assertEquals(expected, formattedData);
+    assertEquals(expected, Jsons.deserialize(StandardNameTransformer.serializeJsonPath(data)));
+    // objects without keys to sanitize are not copied.
+    assertSame(data.get("nested").get("clean"), formattedData.get("nested").get("clean"));
+    assertSame(data.get("list").get(0), formattedData.get("list").get(0));
+  }
+
+  @Test
+  void testFormatJsonPathWithoutKeysToSanitize() {
+    final JsonNode data = Jsons.deserialize("{\"id\": 1, \"nested\": {\"list\": [{\"key\": \"value\"}]}}");
+
+    assertSame(data, StandardNameTransformer.formatJsonPath(data));
+    assertEquals(Jsons.serialize(data), StandardNameTransformer.serializeJsonPath(data));
+  }
+
   // Temporarily disabling the behavior of the ExtendedNameTransformer, see (issue #1785)
   // @Test
   void testExtendedSQLNaming() {
@@ -5,9 +5,11 @@
 package io.airbyte.integrations.destination.buffered_stream_consumer;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -17,11 +19,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.record_buffer.InMemoryRecordBufferingStrategy;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.record_buffer.SerializedBufferingStrategy;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -30,9 +35,12 @@ import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -247,6 +255,44 @@ public class BufferedStreamConsumerTest {
     verifyNoInteractions(outputRecordCollector);
   }
 
+  @Test
+  void testFlushFailureSurfacedAtClose() throws Exception {
+    final SerializableBuffer buffer = mock(SerializableBuffer.class);
+    when(buffer.accept(any())).thenReturn(10L);
+    when(buffer.getByteCount()).thenReturn(10L);
+    when(buffer.getMaxPerStreamBufferSizeInBytes()).thenReturn(10L);
+    when(buffer.getMaxTotalBufferSizeInBytes()).thenReturn(1_000L);
+    when(buffer.getMaxConcurrentStreamsInBuffer()).thenReturn(10);
+    final CountDownLatch releaseFlush = new CountDownLatch(1);
+    final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush = (stream, writer) -> {
+      assertTrue(releaseFlush.await(5, TimeUnit.SECONDS));
+      throw new IOException("upload failed");
+    };
+    consumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        new SerializedBufferingStrategy((stream, catalog) -> buffer, CATALOG, onStreamFlush, 1),
+        onClose,
+        CATALOG,
+        isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(1_000);
+
+    consumer.start();
+    // the full buffer is flushed in the background.
+    consumer.accept(records.get(0));
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(records.get(1)));
+    // the consumer failed, so buffers are not flushed again and the pending flush only fails on close.
+    releaseFlush.countDown();
+    final Exception exception = assertThrows(RuntimeException.class, () -> consumer.close());
+    assertTrue(exception.getMessage().contains("upload failed"));
+
+    verify(onStart).call();
+    verify(onClose).accept(true);
+    verify(onClose, never()).accept(false);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
   @Test
   void test2StreamWith1State() throws Exception {
     final List<AirbyteMessage> expectedRecordsStream1 = generateRecords(1_000);
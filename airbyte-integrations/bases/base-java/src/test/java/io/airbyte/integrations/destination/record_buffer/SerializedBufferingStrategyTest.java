@@ -4,9 +4,18 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +29,14 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -198,6 +215,164 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testAsynchronousFlush() throws Exception {
+    final CountDownLatch stream1FlushStarted = new CountDownLatch(1);
+    final CountDownLatch releaseStream1Flush = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      stream1FlushStarted.countDown();
+      assertTrue(releaseStream1Flush.await(5, TimeUnit.SECONDS));
+      return null;
+    }).when(perStreamFlushHook).accept(any(), eq(recordWriter1));
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    buffering.registerFlushAllEventHook(flushAllHook);
+
+    buffering.addRecord(stream1, generateMessage(stream1));
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+    buffering.addRecord(stream1, generateMessage(stream1));
+    // the full buffer of stream1 is being flushed in the background while records are still accepted
+    assertTrue(stream1FlushStarted.await(5, TimeUnit.SECONDS));
+    buffering.addRecord(stream2, generateMessage(stream2));
+    verify(perStreamFlushHook, times(0)).accept(stream2, recordWriter2);
+
+    final CompletableFuture<Void> flushAll = CompletableFuture.runAsync(() -> {
+      try {
+        buffering.flushAll();
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    verify(perStreamFlushHook, timeout(5000)).accept(stream2, recordWriter2);
+    // the flush all event is only triggered once all preceding flushes completed
+    verify(flushAllHook, after(200).never()).call();
+    releaseStream1Flush.countDown();
+    flushAll.get(5, TimeUnit.SECONDS);
+    verify(flushAllHook, times(1)).call();
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(recordWriter1, atLeastOnce()).close();
+    verify(recordWriter2, atLeastOnce()).close();
+    buffering.close();
+  }
+
+  @Test
+  public void testAsynchronousFlushFailure() throws Exception {
+    doThrow(new IOException("upload failed")).when(perStreamFlushHook).accept(any(), eq(recordWriter1));
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    buffering.registerFlushAllEventHook(flushAllHook);
+
+    buffering.addRecord(stream1, generateMessage(stream1));
+    final Exception exception = assertThrows(IOException.class, buffering::flushAll);
+    assertEquals("upload failed", exception.getMessage());
+    verify(flushAllHook, times(0)).call();
+    buffering.close();
+  }
+
+  @Test
+  public void testPendingFlushesPerStreamLimit() throws Exception {
+    final CountDownLatch releaseStream1Flush = blockFlushesOf(recordWriter1);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, 1, 1000L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+
+    // the first full buffer waits to be flushed while a new one is filled
+    buffering.addRecord(stream1, generateMessage(stream1));
+    // the second full buffer can't be flushed until the first one is
+    final CompletableFuture<Void> addRecord = addRecordAsync(buffering, stream1);
+    assertThrows(TimeoutException.class, () -> addRecord.get(200, TimeUnit.MILLISECONDS));
+    // other streams are not blocked
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    buffering.addRecord(stream2, generateMessage(stream2));
+
+    releaseStream1Flush.countDown();
+    addRecord.get(5, TimeUnit.SECONDS);
+    buffering.flushAll();
+    verify(perStreamFlushHook, times(2)).accept(stream1, recordWriter1);
+    buffering.close();
+  }
+
+  @Test
+  public void testPendingFlushBytesLimit() throws Exception {
+    final CountDownLatch releaseStream1Flush = blockFlushesOf(recordWriter1);
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, 2, 40L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+    when(recordWriter2.getByteCount()).thenReturn(30L);
+
+    buffering.addRecord(stream1, generateMessage(stream1));
+    // 60 bytes would be waiting to be flushed, more than the 40 bytes allowed
+    final CompletableFuture<Void> addRecord = addRecordAsync(buffering, stream2);
+    assertThrows(TimeoutException.class, () -> addRecord.get(200, TimeUnit.MILLISECONDS));
+    verify(perStreamFlushHook, times(0)).accept(stream2, recordWriter2);
+
+    releaseStream1Flush.countDown();
+    addRecord.get(5, TimeUnit.SECONDS);
+    buffering.flushAll();
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    buffering.close();
+  }
+
+  @Test
+  public void testBufferIsClosedWhenWaitingToFlushIsInterrupted() throws Exception {
+    final CountDownLatch releaseStream1Flush = blockFlushesOf(recordWriter1);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    // the second buffer of stream1 is recordWriter2.
+    final Iterator<SerializableBuffer> stream1Buffers = List.of(recordWriter1, recordWriter2).iterator();
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy((stream, catalog) -> stream1Buffers.next(), catalog, perStreamFlushHook, 2, 1, 1000L);
+    when(recordWriter1.getByteCount()).thenReturn(30L);
+    when(recordWriter2.getByteCount()).thenReturn(30L);
+
+    buffering.addRecord(stream1, generateMessage(stream1));
+    // the second full buffer waits for the first one to be flushed, until interrupted.
+    final AtomicReference<Exception> addRecordFailure = new AtomicReference<>();
+    final Thread addRecord = new Thread(() -> {
+      try {
+        buffering.addRecord(stream1, generateMessage(stream1));
+      } catch (final Exception e) {
+        addRecordFailure.set(e);
+      }
+    });
+    addRecord.start();
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (addRecord.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    addRecord.interrupt();
+    addRecord.join(5000);
+    assertTrue(addRecordFailure.get() instanceof InterruptedException);
+    verify(recordWriter2, never()).close();
+
+    releaseStream1Flush.countDown();
+    buffering.close();
+    verify(recordWriter2).close();
+    verify(perStreamFlushHook, never()).accept(stream1, recordWriter2);
+  }
+
+  private CountDownLatch blockFlushesOf(final SerializableBuffer buffer) throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      assertTrue(release.await(5, TimeUnit.SECONDS));
+      return null;
+    }).when(perStreamFlushHook).accept(any(), eq(buffer));
+    return release;
+  }
+
+  private static CompletableFuture<Void> addRecordAsync(final SerializedBufferingStrategy buffering, final AirbyteStreamNameNamespacePair stream) {
+    return CompletableFuture.runAsync(() -> {
+      try {
+        buffering.addRecord(stream, generateMessage(stream));
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
+import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
+import io.debezium.engine.ChangeEvent;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many change events per second go through the record iterator and the conversion to
+ * airbyte messages, for events shaped like the ones of the Postgres, MySQL and MSSQL connectors. The
+ * debezium engine is left out: the events are queued before each invocation, and the target
+ * position and metadata are read the same way as by the sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DebeziumEventPipelineBenchmark {
+
+  private static final int EVENTS_PER_INVOCATION = 10_000;
+  private static final Instant EMITTED_AT = Instant.now();
+
+  @Param({"postgres", "mysql", "mssql"})
+  public String connector;
+
+  private String eventValue;
+  private CdcTargetPosition targetPosition;
+  private CdcMetadataInjector metadataInjector;
+  private LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final Map<String, Object> source = switch (connector) {
+      case "postgres" -> Map.of("connector", "postgresql", "ts_ms", 1616775642623L, "snapshot", "false", "db", "db", "schema", "public",
+          "table", "users", "txId", 495, "lsn", 23011544L);
+      case "mysql" -> Map.of("connector", "mysql", "ts_ms", 1616775642623L, "snapshot", "false", "db", "db", "table", "users",
+          "server_id", 223344, "file", "mysql-bin.000003", "pos", 154, "row", 0);
+      case "mssql" -> Map.of("connector", "sqlserver", "ts_ms", 1616775642623L, "snapshot", "false", "db", "db", "schema", "dbo",
+          "table", "users", "change_lsn", "00000027:00000758:0003", "commit_lsn", "00000027:00000758:0005", "event_serial_no", 1);
+      default -> throw new IllegalArgumentException("Unknown connector " + connector);
+    };
+    eventValue = Jsons.serialize(Map.of(
+        "before", Map.of("id", 1, "name", "goku", "power", 9000.1, "updated_at", "2021-03-26T16:20:42Z"),
+        "after", Map.of("id", 1, "name", "vegeta", "power", 9000.2, "updated_at", "2021-03-26T16:20:43Z"),
+        "source", source,
+        "op", "u",
+        "ts_ms", 1616775642624L));
+    targetPosition = switch (connector) {
+      case "postgres" -> valueAsJson -> valueAsJson.get("source").get("lsn").asLong() == Long.MAX_VALUE;
+      case "mysql" -> valueAsJson -> "mysql-bin.999999".compareTo(valueAsJson.get("source").get("file").asText()) < 0
+          && valueAsJson.get("source").get("pos").asInt() > 0;
+      default -> valueAsJson -> "ffffffff:ffffffff:ffff".compareTo(valueAsJson.get("source").get("change_lsn").asText()) < 0;
+    };
+    metadataInjector = new BenchmarkMetadataInjector(connector);
+    queue = new LinkedBlockingQueue<>();
+  }
+
+  @Setup(Level.Invocation)
+  public void queueEvents() {
+    for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+      queue.add(new BenchmarkChangeEvent(eventValue));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+  public void readEvents(final Blackhole blackhole) {
+    // the publisher is reported as closed, so the iterator stops once the queue is drained.
+    final DebeziumRecordIterator iterator = new DebeziumRecordIterator(queue, targetPosition, () -> true, () -> {});
+    while (iterator.hasNext()) {
+      final ChangeEventWithMetadata event = iterator.next();
+      blackhole.consume(DebeziumEventUtils.toAirbyteMessage(event, metadataInjector, EMITTED_AT));
+    }
+  }
+
+  private static class BenchmarkMetadataInjector implements CdcMetadataInjector {
+
+    private final String connector;
+
+    BenchmarkMetadataInjector(final String connector) {
+      this.connector = connector;
+    }
+
+    @Override
+    public void addMetaData(final ObjectNode event, final JsonNode source) {
+      switch (connector) {
+        case "postgres" -> event.put("_ab_cdc_lsn", source.get("lsn").asLong());
+        case "mysql" -> {
+          event.put("_ab_cdc_log_file", source.get("file").asText());
+          event.put("_ab_cdc_log_pos", source.get("pos").asLong());
+        }
+        default -> event.put("_ab_cdc_lsn", source.get("change_lsn").asText());
+      }
+    }
+
+    @Override
+    public String namespace(final JsonNode source) {
+      return "mysql".equals(connector) ? source.get("db").asText() : source.get("schema").asText();
+    }
+
+  }
+
+  private record BenchmarkChangeEvent(String value) implements ChangeEvent<String, String> {
+
+    @Override
+    public String key() {
+      return null;
+    }
+
+    @Override
+    public String destination() {
+      return "db.users";
+    }
+
+  }
+
+}
@@ -11,13 +11,15 @@ import io.airbyte.commons.util.CompositeIterator;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
-import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
 import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
@@ -43,6 +45,9 @@ public class AirbyteDebeziumHandler {
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
    */
   private static final int QUEUE_CAPACITY = 10000;
+  // intermediate states are emitted every 15 minutes or every 10000 records, whichever comes first.
+  private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(15);
+  private static final long CHECKPOINT_RECORDS = 10000;
 
   private final Properties connectorProperties;
   private final JsonNode config;
@@ -77,24 +82,31 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    // convert to airbyte message, with intermediate states so that a failed sync can resume from a
+    // recent offset.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = new DebeziumStateDecoratingIterator(
+        eventIterator,
+        cdcStateHandler,
+        cdcMetadataInjector,
+        emittedAt,
+        offsetManager,
+        schemaHistoryManager,
+        queue::size,
+        CHECKPOINT_INTERVAL,
+        CHECKPOINT_RECORDS);
 
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
-    // have been produced)
+    // have been produced). the offset is then past the whole schema history, which can be compacted.
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
       final Map<String, String> offset = offsetManager.read();
       final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).readCompacted() : null;
 
       return cdcStateHandler.saveState(offset, dbHistory);
     };
@@ -6,21 +6,36 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
+import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.relational.history.HistoryRecord;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The purpose of this class is : to , 1. Read the contents of the file {@link #path} which contains
@@ -28,13 +43,23 @@ import org.apache.commons.io.FileUtils;
  * Check {@link #read()} 2. Write the saved content back to the file {@link #path} at the beginning
  * of the sync so that debezium can function smoothly. Check persist(Optional&lt;JsonNode&gt;). To
  * understand more about file, please refer {@link FilteredFileDatabaseHistory}
+ *
+ * The history saved in state is gzipped and base64 encoded, which keeps it small even after many
+ * schema changes. It starts with {@link #ENCODED_HISTORY_PREFIX}, which tells it apart from the
+ * plain text histories saved by previous versions, which are still read. Previous versions cannot
+ * read encoded histories though, so a connector cannot be downgraded once it saved one.
  */
 public class AirbyteSchemaHistoryStorage {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteSchemaHistoryStorage.class);
+
   private final Path path;
   private static final Charset UTF8 = StandardCharsets.UTF_8;
+  // plain text histories start with a json record, so they never start with this prefix.
+  public static final String ENCODED_HISTORY_PREFIX = "gzip+base64:";
+  private static final String TABLE_ID_FIELD = "id";
+
   private final DocumentReader reader = DocumentReader.defaultReader();
-  private final DocumentWriter writer = DocumentWriter.defaultWriter();
 
   public AirbyteSchemaHistoryStorage(final Path path) {
     this.path = path;
@@ -46,20 +71,122 @@ public class AirbyteSchemaHistoryStorage {
 
   /**
    * This implementation is kind of similar to
-   * {@link io.debezium.relational.history.FileDatabaseHistory#recoverRecords(Consumer)}
+   * {@link io.debezium.relational.history.FileDatabaseHistory#recoverRecords(Consumer)}. The records
+   * are copied as they are, since debezium wrote them in the format it reads them.
    */
   public String read() {
-    final StringBuilder fileAsString = new StringBuilder();
+    return encode(readRecords());
+  }
+
+  /**
+   * Same as {@link #read()}, but only keeps the latest record of the tables whose records describe
+   * their whole structure, see {@link #compact(List)}. Debezium skips the records which are after the
+   * offset when recovering the schemas, so this must only be used once the offset is past every
+   * record of the history, i.e. once the engine has been closed.
+   */
+  public String readCompacted() {
+    return encode(compact(readRecords()));
+  }
+
+  /**
+   * The history is also read during the sync for intermediate states, while the engine may be
+   * appending a record to the file. A record is only complete once it is followed by a line
+   * separator, and only the last record can be incomplete, so an unterminated or unparseable last
+   * record is left out. It is read with the next state, once the engine finished writing it.
+   */
+  private List<String> readRecords() {
+    final String fileAsString;
     try {
-      for (final String line : Files.readAllLines(path, UTF8)) {
-        if (line != null && !line.isEmpty()) {
-          final Document record = reader.read(line);
-          final String recordAsString = writer.write(record);
-          fileAsString.append(recordAsString);
-          fileAsString.append(System.lineSeparator());
-        }
+      // decoded leniently, as the file may end in the middle of a multi-byte character.
+      fileAsString = new String(Files.readAllBytes(path), UTF8);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final List<String> records = new ArrayList<>(fileAsString.lines()
+        .filter(line -> !line.isEmpty())
+        .toList());
+    if (!records.isEmpty() && (!fileAsString.endsWith("\n") || !isParseable(records.get(records.size() - 1)))) {
+      LOGGER.info("Leaving out the last record of the schema history, which is still being written");
+      records.remove(records.size() - 1);
+    }
+    return records;
+  }
+
+  private boolean isParseable(final String record) {
+    try {
+      reader.read(record);
+      return true;
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Records with table changes (e.g. for SQL Server) hold the whole structure of the tables they
+   * change, so only the latest one of each table is needed to recover its schema. Records with DDL
+   * statements only (e.g. for MySQL) are replayed one after the other to recover the schemas, so they
+   * are all kept.
+   */
+  private List<String> compact(final List<String> records) {
+    final List<Set<String>> tablesOfRecords = new ArrayList<>(records.size());
+    final Map<String, Integer> latestRecordOfTables = new HashMap<>();
+    for (final String record : records) {
+      final Set<String> tables = getChangedTables(record);
+      for (final String table : tables) {
+        latestRecordOfTables.put(table, tablesOfRecords.size());
+      }
+      tablesOfRecords.add(tables);
+    }
+
+    final List<String> compactedRecords = new ArrayList<>();
+    for (int i = 0; i < records.size(); i++) {
+      final int recordIndex = i;
+      final Set<String> tables = tablesOfRecords.get(i);
+      if (tables.isEmpty() || tables.stream().anyMatch(table -> latestRecordOfTables.get(table) == recordIndex)) {
+        compactedRecords.add(records.get(i));
       }
-      return fileAsString.toString();
+    }
+    return compactedRecords;
+  }
+
+  private Set<String> getChangedTables(final String record) {
+    final Document document;
+    try {
+      document = reader.read(record);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final Array tableChanges = document.getArray(HistoryRecord.Fields.TABLE_CHANGES);
+    final Set<String> tables = new HashSet<>();
+    if (tableChanges != null) {
+      tableChanges.streamValues().forEach(tableChange -> tables.add(tableChange.asDocument().getString(TABLE_ID_FIELD)));
+    }
+    return tables;
+  }
+
+  private static String encode(final List<String> records) {
+    if (records.isEmpty()) {
+      return "";
+    }
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), UTF8)) {
+      for (final String record : records) {
+        writer.write(record);
+        writer.write(System.lineSeparator());
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return ENCODED_HISTORY_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  private static String decode(final String history) {
+    if (!history.startsWith(ENCODED_HISTORY_PREFIX)) {
+      return history;
+    }
+    final byte[] compressedHistory = Base64.getDecoder().decode(history.substring(ENCODED_HISTORY_PREFIX.length()));
+    try (final InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressedHistory))) {
+      return new String(inputStream.readAllBytes(), UTF8);
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
@@ -93,11 +220,12 @@ public class AirbyteSchemaHistoryStorage {
     if (schemaHistory.isEmpty()) {
       return;
     }
-    final String fileAsString = Jsons.object(schemaHistory.get(), String.class);
+    final String history = Jsons.object(schemaHistory.get(), String.class);
 
-    if (fileAsString == null || fileAsString.isEmpty()) {
+    if (history == null || history.isEmpty()) {
       return;
     }
+    final String fileAsString = decode(history);
 
     FileUtils.deleteQuietly(path.toFile());
     makeSureFileExists();
@@ -111,20 +239,11 @@ public class AirbyteSchemaHistoryStorage {
    * @param fileAsString Represents the contents of the file saved in state from previous syncs
    */
   private void writeToFile(final String fileAsString) {
-    try {
-      final String[] split = fileAsString.split(System.lineSeparator());
-      for (final String element : split) {
-        final Document read = reader.read(element);
-        final String line = writer.write(read);
-
-        try (final BufferedWriter historyWriter = Files
-            .newBufferedWriter(path, StandardOpenOption.APPEND)) {
-          try {
-            historyWriter.append(line);
-            historyWriter.newLine();
-          } catch (final IOException e) {
-            throw new RuntimeException(e);
-          }
+    try (final BufferedWriter historyWriter = Files.newBufferedWriter(path, UTF8)) {
+      for (final String line : fileAsString.split(System.lineSeparator())) {
+        if (!line.isEmpty()) {
+          historyWriter.append(line);
+          historyWriter.newLine();
         }
       }
     } catch (final IOException e) {
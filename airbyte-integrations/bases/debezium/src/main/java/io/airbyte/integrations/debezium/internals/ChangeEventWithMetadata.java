@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A debezium change event along with its parsed value, so that each event is only deserialized
+ * once while it goes through the record iterator and the conversion to airbyte messages.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+}
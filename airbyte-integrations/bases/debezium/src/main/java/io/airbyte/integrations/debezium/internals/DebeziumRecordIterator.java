@@ -7,7 +7,6 @@ package io.airbyte.integrations.debezium.internals;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
@@ -29,8 +28,8 @@ import org.slf4j.LoggerFactory;
  * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
  * any produced records before closing.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
@@ -59,7 +58,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   }
 
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
@@ -81,7 +80,8 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         continue;
       }
 
-      final JsonNode eventAsJson = Jsons.deserialize(next.value());
+      final ChangeEventWithMetadata changeEventWithMetadata = new ChangeEventWithMetadata(next);
+      final JsonNode eventAsJson = changeEventWithMetadata.eventValueAsJson();
       hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
@@ -89,7 +89,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         requestClose();
       }
       receivedFirstRecord = true;
-      return next;
+      return changeEventWithMetadata;
     }
     return endOfData();
   }
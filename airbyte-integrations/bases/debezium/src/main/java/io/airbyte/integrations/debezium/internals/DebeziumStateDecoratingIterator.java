@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the change events to airbyte messages, and emits intermediate state messages along the
+ * way, so that a sync which fails can resume from a recent offset instead of the one it started
+ * from.
+ *
+ * The offset file is flushed by the debezium engine once the events have been handed to the queue,
+ * not once they have been emitted. So when a checkpoint is due, the offset is read from the file
+ * along with the number of events which are still queued, and the state message is only emitted
+ * after all those events, which include every event covered by that offset. No checkpoint is taken
+ * while the initial snapshot is running, as debezium restarts an interrupted snapshot from scratch
+ * anyway.
+ */
+public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator;
+  private final CdcStateHandler cdcStateHandler;
+  private final CdcMetadataInjector cdcMetadataInjector;
+  private final Instant emittedAt;
+  private final AirbyteFileOffsetBackingStore offsetManager;
+  private final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager;
+  private final Supplier<Integer> queuedEventCount;
+  private final Duration checkpointInterval;
+  private final long checkpointRecords;
+
+  private Map<String, String> lastCheckpointOffset;
+  private Instant lastCheckpointTime;
+  private long recordsSinceCheckpoint;
+
+  // state read from the engine, waiting for the events it covers to be emitted.
+  private Map<String, String> pendingOffset;
+  private String pendingDbHistory;
+  private long eventsBeforePendingCheckpoint;
+
+  /**
+   * @param queuedEventCount number of events produced by the engine which the change event iterator
+   *        has not returned yet.
+   * @param checkpointInterval how long to wait between two checkpoints.
+   * @param checkpointRecords how many records to emit between two checkpoints, whichever comes first
+   *        with the interval.
+   */
+  public DebeziumStateDecoratingIterator(final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator,
+                                         final CdcStateHandler cdcStateHandler,
+                                         final CdcMetadataInjector cdcMetadataInjector,
+                                         final Instant emittedAt,
+                                         final AirbyteFileOffsetBackingStore offsetManager,
+                                         final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager,
+                                         final Supplier<Integer> queuedEventCount,
+                                         final Duration checkpointInterval,
+                                         final long checkpointRecords) {
+    this.changeEventIterator = changeEventIterator;
+    this.cdcStateHandler = cdcStateHandler;
+    this.cdcMetadataInjector = cdcMetadataInjector;
+    this.emittedAt = emittedAt;
+    this.offsetManager = offsetManager;
+    this.schemaHistoryManager = schemaHistoryManager;
+    this.queuedEventCount = queuedEventCount;
+    this.checkpointInterval = checkpointInterval;
+    this.checkpointRecords = checkpointRecords;
+    this.lastCheckpointOffset = offsetManager.read();
+    this.lastCheckpointTime = Instant.now();
+    this.recordsSinceCheckpoint = 0;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    if (pendingOffset != null && eventsBeforePendingCheckpoint <= 0) {
+      final AirbyteMessage stateMessage = cdcStateHandler.saveState(pendingOffset, pendingDbHistory);
+      lastCheckpointOffset = pendingOffset;
+      pendingOffset = null;
+      pendingDbHistory = null;
+      return stateMessage;
+    }
+
+    if (!changeEventIterator.hasNext()) {
+      // the state after the last events is emitted by the handler, once the engine is closed.
+      return endOfData();
+    }
+
+    final ChangeEventWithMetadata event = changeEventIterator.next();
+    eventsBeforePendingCheckpoint--;
+    recordsSinceCheckpoint++;
+    if (pendingOffset == null && isCheckpointDue() && hasSnapshotFinished(event)) {
+      readCheckpoint();
+    }
+    return DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt);
+  }
+
+  private boolean isCheckpointDue() {
+    return recordsSinceCheckpoint >= checkpointRecords
+        || Duration.between(lastCheckpointTime, Instant.now()).compareTo(checkpointInterval) >= 0;
+  }
+
+  private static boolean hasSnapshotFinished(final ChangeEventWithMetadata event) {
+    final String snapshot = event.eventValueAsJson().get("source").get("snapshot").asText();
+    return SnapshotMetadata.FALSE == SnapshotMetadata.valueOf(snapshot.toUpperCase());
+  }
+
+  private void readCheckpoint() {
+    // whatever the outcome, wait for the next cadence instead of reading the files after each event.
+    recordsSinceCheckpoint = 0;
+    lastCheckpointTime = Instant.now();
+
+    final Map<String, String> offset;
+    try {
+      offset = offsetManager.read();
+    } catch (final ConnectException e) {
+      // the engine may be writing the file at the same time.
+      LOGGER.warn("Could not read the debezium offset for an intermediate state, skipping it", e);
+      return;
+    }
+    if (offset.isEmpty() || offset.equals(lastCheckpointOffset)) {
+      return;
+    }
+    // the queued events must be counted after reading the offset, so that they include all the events
+    // it covers.
+    final int queuedEvents = queuedEventCount.get();
+
+    pendingOffset = offset;
+    pendingDbHistory = schemaHistoryManager.map(AirbyteSchemaHistoryStorage::read).orElse(null);
+    eventsBeforePendingCheckpoint = queuedEvents;
+    LOGGER.info("Emitting an intermediate state after the next {} queued events", queuedEvents);
+  }
+
+  @Override
+  public void close() throws Exception {
+    changeEventIterator.close();
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class AirbyteSchemaHistoryStorageTest {
+
+  private static final String CREATE_TABLE = historyRecord(1, "CREATE TABLE users (id INT)");
+  private static final String ALTER_TABLE = historyRecord(2, "ALTER TABLE users ADD name VARCHAR(64)");
+  private static final String CREATE_TABLE_USERS = tableChangeRecord(1, "CREATE", "db.dbo.users");
+  private static final String CREATE_TABLE_ORDERS = tableChangeRecord(2, "CREATE", "db.dbo.orders");
+  private static final String ALTER_TABLE_USERS = tableChangeRecord(3, "ALTER", "db.dbo.users");
+
+  @Test
+  void testReadsPlainTextHistory() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = initializeDBHistory(CREATE_TABLE, ALTER_TABLE);
+
+    assertEquals(List.of(CREATE_TABLE, ALTER_TABLE), Files.readAllLines(storage.getPath()));
+  }
+
+  @Test
+  void testReadsEncodedHistory() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final GZIPOutputStream outputStream = new GZIPOutputStream(bytes)) {
+      outputStream.write((CREATE_TABLE + System.lineSeparator() + ALTER_TABLE + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+    }
+    final String history = AirbyteSchemaHistoryStorage.ENCODED_HISTORY_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+
+    final AirbyteSchemaHistoryStorage storage = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(history)));
+    assertEquals(List.of(CREATE_TABLE, ALTER_TABLE), Files.readAllLines(storage.getPath()));
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = initializeDBHistory(CREATE_TABLE, ALTER_TABLE);
+
+    final String history = storage.read();
+    assertTrue(history.startsWith(AirbyteSchemaHistoryStorage.ENCODED_HISTORY_PREFIX));
+    assertFalse(history.contains("CREATE TABLE"));
+
+    final AirbyteSchemaHistoryStorage restoredStorage = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(history)));
+    assertEquals(List.of(CREATE_TABLE, ALTER_TABLE), Files.readAllLines(restoredStorage.getPath()));
+  }
+
+  @Test
+  void testReadLeavesOutIncompleteLastRecord() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = initializeDBHistory(CREATE_TABLE);
+    // the engine is in the middle of appending a record.
+    final int splitIndex = ALTER_TABLE.length() / 2;
+    Files.writeString(storage.getPath(), ALTER_TABLE.substring(0, splitIndex), StandardOpenOption.APPEND);
+
+    assertEquals(List.of(CREATE_TABLE), Files.readAllLines(restoreHistory(storage.read()).getPath()));
+
+    // the record is complete once followed by a line separator.
+    Files.writeString(storage.getPath(), ALTER_TABLE.substring(splitIndex), StandardOpenOption.APPEND);
+    assertEquals(List.of(CREATE_TABLE), Files.readAllLines(restoreHistory(storage.read()).getPath()));
+    Files.writeString(storage.getPath(), System.lineSeparator(), StandardOpenOption.APPEND);
+    assertEquals(List.of(CREATE_TABLE, ALTER_TABLE), Files.readAllLines(restoreHistory(storage.read()).getPath()));
+  }
+
+  @Test
+  void testCompaction() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = initializeDBHistory(CREATE_TABLE_USERS, CREATE_TABLE, CREATE_TABLE_ORDERS, ALTER_TABLE_USERS);
+
+    final String history = storage.readCompacted();
+
+    final AirbyteSchemaHistoryStorage restoredStorage = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(history)));
+    assertEquals(List.of(CREATE_TABLE, CREATE_TABLE_ORDERS, ALTER_TABLE_USERS), Files.readAllLines(restoredStorage.getPath()));
+  }
+
+  @Test
+  void testEmptyHistory() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.empty());
+    // created by debezium when it starts.
+    Files.createFile(storage.getPath());
+
+    assertEquals("", storage.read());
+    assertEquals("", storage.readCompacted());
+  }
+
+  private static AirbyteSchemaHistoryStorage initializeDBHistory(final String... records) {
+    final String history = String.join(System.lineSeparator(), records) + System.lineSeparator();
+    return AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(history)));
+  }
+
+  private static AirbyteSchemaHistoryStorage restoreHistory(final String history) {
+    return AirbyteSchemaHistoryStorage.initializeDBHistory(Optional.of(Jsons.jsonNode(history)));
+  }
+
+  private static String historyRecord(final int position, final String ddl) {
+    return Jsons.serialize(Map.of(
+        "position", Map.of("pos", position),
+        "databaseName", "db",
+        "ddl", ddl));
+  }
+
+  private static String tableChangeRecord(final int position, final String type, final String table) {
+    return Jsons.serialize(Map.of(
+        "position", Map.of("change_lsn", position),
+        "databaseName", "db",
+        "schemaName", "dbo",
+        "tableChanges", List.of(Map.of("type", type, "id", table))));
+  }
+
+}
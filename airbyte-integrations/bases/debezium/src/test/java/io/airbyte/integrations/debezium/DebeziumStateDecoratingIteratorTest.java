@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DebeziumStateDecoratingIteratorTest {
+
+  private static final Map<String, String> INITIAL_OFFSET = Map.of("lsn", "0");
+  private static final Map<String, String> CHECKPOINT_OFFSET = Map.of("lsn", "2");
+  private static final CdcStateHandler STATE_HANDLER = (offset, dbHistory) -> new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(offset)));
+
+  private AirbyteFileOffsetBackingStore offsetManager;
+
+  @BeforeEach
+  void setup() {
+    offsetManager = mock(AirbyteFileOffsetBackingStore.class);
+  }
+
+  @Test
+  void testEmitsStateAfterQueuedEvents() {
+    when(offsetManager.read()).thenReturn(INITIAL_OFFSET, CHECKPOINT_OFFSET);
+
+    // the checkpoint is read after the 2nd event, while 2 more events are queued.
+    final List<AirbyteMessage> messages = readMessages(changeEvents(5, "false"), 2);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD),
+        messages.stream().map(AirbyteMessage::getType).toList());
+    assertEquals(Jsons.jsonNode(CHECKPOINT_OFFSET), messages.get(4).getState().getData());
+    assertEquals(3, messages.get(3).getRecord().getData().get("id").asInt());
+  }
+
+  @Test
+  void testSkipsUnchangedOffset() {
+    when(offsetManager.read()).thenReturn(INITIAL_OFFSET);
+
+    final List<AirbyteMessage> messages = readMessages(changeEvents(5, "false"), 0);
+
+    assertEquals(5, messages.size());
+    assertEquals(List.of(Type.RECORD), messages.stream().map(AirbyteMessage::getType).distinct().toList());
+  }
+
+  @Test
+  void testNoStateDuringSnapshot() {
+    when(offsetManager.read()).thenReturn(INITIAL_OFFSET, CHECKPOINT_OFFSET);
+
+    final List<AirbyteMessage> messages = readMessages(changeEvents(5, "true"), 0);
+
+    assertEquals(5, messages.size());
+    assertEquals(List.of(Type.RECORD), messages.stream().map(AirbyteMessage::getType).distinct().toList());
+    // only read when the iterator was created.
+    verify(offsetManager, times(1)).read();
+  }
+
+  private List<AirbyteMessage> readMessages(final List<ChangeEventWithMetadata> events, final int queuedEventCount) {
+    final DebeziumStateDecoratingIterator iterator = new DebeziumStateDecoratingIterator(
+        AutoCloseableIterators.fromIterator(events.iterator()),
+        STATE_HANDLER,
+        mock(CdcMetadataInjector.class),
+        Instant.now(),
+        offsetManager,
+        Optional.empty(),
+        () -> queuedEventCount,
+        Duration.ofHours(1),
+        2);
+    return MoreIterators.toList(iterator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<ChangeEventWithMetadata> changeEvents(final int count, final String snapshot) {
+    return IntStream.range(0, count).mapToObj(id -> {
+      final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+      when(event.value()).thenReturn(Jsons.serialize(Map.of(
+          "after", Map.of("id", id),
+          "source", Map.of("ts_ms", 1616775642623L, "snapshot", snapshot, "schema", "public", "table", "users"))));
+      return new ChangeEventWithMetadata(event);
+    }).toList();
+  }
+
+}
@@ -70,4 +70,9 @@ public class LocalAirbyteDestination implements AirbyteDestination {
     return Optional.empty();
   }
 
+  @Override
+  public long getWriteWaitTimeMillis() {
+    return 0;
+  }
+
 }
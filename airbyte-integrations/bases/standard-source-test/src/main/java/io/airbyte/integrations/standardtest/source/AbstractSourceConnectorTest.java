@@ -32,6 +32,7 @@ import io.airbyte.workers.process.DockerProcessFactory;
 import io.airbyte.workers.process.ProcessFactory;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.DefaultAirbyteSource;
+import io.airbyte.workers.protocols.airbyte.SizedAirbyteMessage;
 import io.airbyte.workers.test_helpers.EntrypointEnvChecker;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -175,7 +176,7 @@ public abstract class AbstractSourceConnectorTest {
     final List<AirbyteMessage> messages = new ArrayList<>();
     source.start(sourceConfig, jobRoot);
     while (!source.isFinished()) {
-      source.attemptRead().ifPresent(messages::add);
+      source.attemptRead().map(SizedAirbyteMessage::message).ifPresent(messages::add);
     }
     source.close();
 
@@ -198,7 +199,7 @@ public abstract class AbstractSourceConnectorTest {
     source.start(sourceConfig, jobRoot);
 
     while (!source.isFinished()) {
-      Optional<AirbyteMessage> airbyteMessageOptional = source.attemptRead();
+      Optional<AirbyteMessage> airbyteMessageOptional = source.attemptRead().map(SizedAirbyteMessage::message);
       if (airbyteMessageOptional.isPresent() && airbyteMessageOptional.get().getType().equals(Type.RECORD)) {
         AirbyteMessage airbyteMessage = airbyteMessageOptional.get();
         AirbyteRecordMessage record = airbyteMessage.getRecord();
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.cloud.bigquery.Field;
 import com.google.cloud.bigquery.Field.Builder;
 import com.google.cloud.bigquery.Field.Mode;
@@ -30,7 +31,10 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -50,6 +54,10 @@ public class DefaultBigQueryDenormalizedRecordFormatter extends DefaultBigQueryR
   private static final String FORMAT_FIELD = "format";
   private static final String REF_DEFINITION_KEY = "$ref";
   private static final ObjectMapper mapper = new ObjectMapper();
+  private static final int MAX_CACHED_KEYS = 1_000;
+  private static final KeyFormatter INVALID_KEY = new KeyFormatter(null, null);
+
+  private FieldFormatter recordFormatter;
 
   public DefaultBigQueryDenormalizedRecordFormatter(final JsonNode jsonSchema, final StandardNameTransformer namingResolver) {
     super(jsonSchema, namingResolver);
@@ -125,16 +133,7 @@ public class DefaultBigQueryDenormalizedRecordFormatter extends DefaultBigQueryR
     // Bigquery represents TIMESTAMP to the microsecond precision, so we convert to microseconds then
     // use BQ helpers to string-format correctly.
     Preconditions.checkArgument(recordMessage.getData().isObject());
-    final ObjectNode data = (ObjectNode) formatData(getBigQuerySchema().getFields(), recordMessage.getData());
-    // replace ObjectNode with TextNode for fields with $ref definition key
-    // Do not need to iterate through all JSON Object nodes, only first nesting object.
-    if (!fieldsContainRefDefinitionValue.isEmpty()) {
-      fieldsContainRefDefinitionValue.forEach(key -> {
-        if (data.get(key) != null && !data.get(key).isNull()) {
-          data.put(key, data.get(key).toString());
-        }
-      });
-    }
+    final ObjectNode data = (ObjectNode) getRecordFormatter().format(recordMessage.getData());
     addAirbyteColumns(data, recordMessage);
 
     return data;
@@ -148,58 +147,114 @@ public class DefaultBigQueryDenormalizedRecordFormatter extends DefaultBigQueryR
     data.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, formattedEmittedAt);
   }
 
-  protected JsonNode formatData(final FieldList fields, final JsonNode root) {
-    // handles empty objects and arrays
-    if (fields == null) {
-      return root;
-    }
-    formatDateTimeFields(fields, root);
-    if (root.isObject()) {
-      return getObjectNode(fields, root);
-    } else if (root.isArray()) {
-      return getArrayNode(fields, root);
-    } else {
-      return root;
+  /**
+   * The BigQuery schema of the stream is compiled once into a tree of formatters, so that each record
+   * is formatted in a single pass without looking the fields up in the schema again.
+   */
+  private FieldFormatter getRecordFormatter() {
+    if (recordFormatter == null) {
+      recordFormatter = new FieldListFormatter(getBigQuerySchema().getFields(), fieldsContainRefDefinitionValue);
     }
+    return recordFormatter;
   }
 
-  protected void formatDateTimeFields(final FieldList fields, final JsonNode root) {
-    final List<String> dateTimeFields = BigQueryUtils.getDateTimeFieldsFromSchema(fields);
-    if (!dateTimeFields.isEmpty() && !root.isNull()) {
-      BigQueryUtils.transformJsonDateTimeToBigDataFormat(dateTimeFields, (ObjectNode) root);
+  private static FieldFormatter getLeafFormatter(final Field field) {
+    if (field.getType().getStandardType() == StandardSQLTypeName.DATETIME) {
+      return value -> value.isNull() || value.isContainerNode()
+          ? value
+          : TextNode.valueOf(BigQueryUtils.convertToBigQueryDateTime(value.asText()));
     }
+    return value -> value;
   }
 
-  private JsonNode getArrayNode(final FieldList fields, final JsonNode root) {
-    // Arrays can have only one field
-    final Field arrayField = fields.get(0);
-    // If an array of records, we should use subfields
-    final FieldList subFields;
-    if (arrayField.getSubFields() == null || arrayField.getSubFields().isEmpty()) {
-      subFields = fields;
-    } else {
-      subFields = arrayField.getSubFields();
-    }
-    final JsonNode items = Jsons.jsonNode(MoreIterators.toList(root.elements()).stream()
-        .map(p -> formatData(subFields, p))
-        .collect(Collectors.toList()));
+  /**
+   * Formats a json value into the shape of a BigQuery field.
+   */
+  @FunctionalInterface
+  private interface FieldFormatter {
+
+    JsonNode format(JsonNode value);
 
-    return Jsons.jsonNode(ImmutableMap.of(NESTED_ARRAY_FIELD, items));
   }
 
-  private JsonNode getObjectNode(final FieldList fields, final JsonNode root) {
-    final List<String> fieldNames = fields.stream().map(Field::getName).collect(Collectors.toList());
-    return Jsons.jsonNode(Jsons.keys(root).stream()
-        .filter(key -> {
-          final boolean validKey = fieldNames.contains(namingResolver.getIdentifier(key));
-          if (!validKey && !invalidKeys.contains(key)) {
+  private record KeyFormatter(String fieldName, FieldFormatter formatter) {}
+
+  /**
+   * Formats a json object into the fields of a record, renaming its keys into the field names and
+   * dropping the keys which are not defined in the catalog. A json array is formatted into an object
+   * holding its formatted items under {@link #NESTED_ARRAY_FIELD}.
+   */
+  private class FieldListFormatter implements FieldFormatter {
+
+    private final Map<String, FieldFormatter> formatterByFieldName = new HashMap<>();
+    private final FieldFormatter itemsFormatter;
+    private final Map<String, KeyFormatter> formatterByKey = new HashMap<>();
+
+    /**
+     * @param stringFields - fields which are saved as their json text, whatever their content.
+     */
+    FieldListFormatter(final FieldList fields, final Set<String> stringFields) {
+      for (final Field field : fields) {
+        final FieldFormatter formatter;
+        // replace ObjectNode with TextNode for fields with $ref definition key
+        if (stringFields.contains(field.getName())) {
+          formatter = value -> value.isNull() ? value : TextNode.valueOf(value.toString());
+        } else if (field.getSubFields() != null && !field.getSubFields().isEmpty()) {
+          formatter = new FieldListFormatter(field.getSubFields(), Collections.emptySet());
+        } else {
+          formatter = getLeafFormatter(field);
+        }
+        formatterByFieldName.put(field.getName(), formatter);
+      }
+      // Arrays can have only one field
+      itemsFormatter = fields.isEmpty() ? value -> value : formatterByFieldName.get(fields.get(0).getName());
+    }
+
+    @Override
+    public JsonNode format(final JsonNode value) {
+      if (value.isObject()) {
+        final ObjectNode formattedObject = mapper.createObjectNode();
+        value.fields().forEachRemaining(entry -> {
+          final KeyFormatter keyFormatter = getKeyFormatter(entry.getKey());
+          if (keyFormatter != INVALID_KEY
+              && formattedObject.replace(keyFormatter.fieldName(), keyFormatter.formatter().format(entry.getValue())) != null) {
+            throw new IllegalStateException(String.format("Duplicate key %s", keyFormatter.fieldName()));
+          }
+        });
+        return formattedObject;
+      } else if (value.isArray()) {
+        final ArrayNode items = mapper.createArrayNode();
+        value.elements().forEachRemaining(item -> items.add(itemsFormatter.format(item)));
+        final ObjectNode formattedArray = mapper.createObjectNode();
+        formattedArray.set(NESTED_ARRAY_FIELD, items);
+        return formattedArray;
+      } else {
+        return value;
+      }
+    }
+
+    private KeyFormatter getKeyFormatter(final String key) {
+      KeyFormatter keyFormatter = formatterByKey.get(key);
+      if (keyFormatter == null) {
+        final String fieldName = namingResolver.getIdentifier(key);
+        final FieldFormatter formatter = formatterByFieldName.get(fieldName);
+        if (formatter != null) {
+          keyFormatter = new KeyFormatter(fieldName, formatter);
+        } else {
+          if (!invalidKeys.contains(key)) {
             logFieldFail("Ignoring field as it is not defined in catalog", key);
             invalidKeys.add(key);
           }
-          return validKey;
-        })
-        .collect(Collectors.toMap(namingResolver::getIdentifier,
-            key -> formatData(fields.get(namingResolver.getIdentifier(key)).getSubFields(), root.get(key)))));
+          keyFormatter = INVALID_KEY;
+        }
+        // records may come with arbitrary keys, so the cache is bounded.
+        if (formatterByKey.size() < MAX_CACHED_KEYS) {
+          formatterByKey.put(key, keyFormatter);
+        }
+      }
+      return keyFormatter;
+    }
+
   }
 
   @Override
@@ -9,13 +9,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.cloud.bigquery.Field;
 import com.google.cloud.bigquery.Field.Mode;
 import com.google.cloud.bigquery.FieldList;
 import com.google.cloud.bigquery.LegacySQLTypeName;
 import com.google.cloud.bigquery.Schema;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.bigquery.formatter.DefaultBigQueryDenormalizedRecordFormatter;
 import io.airbyte.integrations.destination.bigquery.formatter.GcsBigQueryDenormalizedRecordFormatter;
 import io.airbyte.integrations.destination.bigquery.util.TestGcsBigQueryDenormalizedRecordFormatter;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -206,6 +212,39 @@ public class BigQueryDenormalizedUtilsTest {
 
   }
 
+  @Test
+  void testFormatRecord() {
+    final JsonNode jsonNodeSchema = getSchemaWithDateTimeInsideArray();
+    final DefaultBigQueryDenormalizedRecordFormatter rf = new DefaultBigQueryDenormalizedRecordFormatter(
+        jsonNodeSchema, new BigQuerySQLNameTransformer());
+    final JsonNode data = Jsons.deserialize("""
+        {
+          "updated-at": "2021-10-11T06:36:53",
+          "permission-list": [{"domain": "abs", "grants": ["admin"], "expires_at": "2021-11-11T06:36:53"}],
+          "dates": ["2021-12-11T06:36:53", null],
+          "not_in_catalog": "value"
+        }""");
+    final JsonNode originalData = data.deepCopy();
+
+    final JsonNode formattedData = rf.formatRecord(new AirbyteRecordMessage().withData(data).withEmittedAt(1_000_000L));
+
+    assertEquals(originalData, data);
+    assertEquals(Jsons.deserialize("""
+        {
+          "updated_at": "2021-10-11 06:36:53.000000",
+          "permission_list": {"big_query_array": [
+            {"domain": "abs", "grants": {"big_query_array": ["admin"]}, "expires_at": "2021-11-11 06:36:53.000000"}
+          ]},
+          "dates": {"big_query_array": ["2021-12-11 06:36:53.000000", null]}
+        }"""), removeAirbyteColumns(formattedData));
+  }
+
+  private static JsonNode removeAirbyteColumns(final JsonNode data) {
+    final ObjectNode node = data.deepCopy();
+    node.remove(List.of(JavaBaseConstants.COLUMN_NAME_AB_ID, JavaBaseConstants.COLUMN_NAME_EMITTED_AT));
+    return node;
+  }
+
   private static Stream<Arguments> actualAndExpectedSchemasProvider() {
     return Stream.of(
         arguments(getSchema(), getExpectedSchema()),
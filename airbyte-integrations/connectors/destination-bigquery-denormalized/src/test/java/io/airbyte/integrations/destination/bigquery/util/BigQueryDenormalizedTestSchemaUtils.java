@@ -26,6 +26,10 @@ public class BigQueryDenormalizedTestSchemaUtils {
     return getTestDataFromResourceJson("schemaWithDateTime.json");
   }
 
+  public static JsonNode getSchemaWithDateTimeInsideArray() {
+    return getTestDataFromResourceJson("schemaWithDateTimeInsideArray.json");
+  }
+
   public static JsonNode getSchemaWithInvalidArrayType() {
     return getTestDataFromResourceJson("schemaWithInvalidArrayType.json");
   }
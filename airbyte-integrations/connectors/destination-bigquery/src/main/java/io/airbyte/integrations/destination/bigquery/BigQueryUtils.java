@@ -234,17 +234,22 @@ public class BigQueryUtils {
   public static void transformJsonDateTimeToBigDataFormat(List<String> dateTimeFields, ObjectNode data) {
     dateTimeFields.forEach(e -> {
       if (data.findValue(e) != null && !data.get(e).isNull()) {
-        String googleBigQueryDateFormat = QueryParameterValue
-            .dateTime(new DateTime(convertDateToInstantFormat(data
-                .findValue(e)
-                .asText()))
-                    .toString(BIG_QUERY_DATETIME_FORMAT))
-            .getValue();
-        data.put(e, googleBigQueryDateFormat);
+        data.put(e, convertToBigQueryDateTime(data.findValue(e).asText()));
       }
     });
   }
 
+  /**
+   * @param dateTime - JSON DATETIME value
+   * @return the value in the special DATETIME format required to save this type to BigQuery.
+   */
+  public static String convertToBigQueryDateTime(final String dateTime) {
+    return QueryParameterValue
+        .dateTime(new DateTime(convertDateToInstantFormat(dateTime))
+            .toString(BIG_QUERY_DATETIME_FORMAT))
+        .getValue();
+  }
+
   public static String getSchema(final JsonNode config, final ConfiguredAirbyteStream stream) {
     final String srcNamespace = stream.getStream().getNamespace();
     final String schemaName = srcNamespace == null ? getDatasetId(config) : srcNamespace;
@@ -48,8 +48,7 @@ public class DefaultBigQueryRecordFormatter extends BigQueryRecordFormatter {
   }
 
   protected Object getData(AirbyteRecordMessage recordMessage) {
-    final JsonNode formattedData = StandardNameTransformer.formatJsonPath(recordMessage.getData());
-    return Jsons.serialize(formattedData);
+    return StandardNameTransformer.serializeJsonPath(recordMessage.getData());
   }
 
   @Override
@@ -24,7 +24,7 @@ public class GcsAvroBigQueryRecordFormatter extends DefaultBigQueryRecordFormatt
 
   @Override
   protected Object getData(AirbyteRecordMessage recordMessage) {
-    return StandardNameTransformer.formatJsonPath(recordMessage.getData()).toString();
+    return StandardNameTransformer.serializeJsonPath(recordMessage.getData());
   }
 
 }
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.staging;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.commons.json.Jsons;
@@ -29,10 +30,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.slf4j.Logger;
@@ -42,6 +51,11 @@ public class StagingConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StagingConsumerFactory.class);
 
+  /**
+   * Number of staged files copied at the same time by destinations that copy them during the sync.
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_COPIES = 2;
+
   // using a random string here as a placeholder for the moment.
   // This would avoid mixing data in the staging area between different syncs (especially if they
   // manipulate streams with similar names)
@@ -53,6 +67,21 @@ public class StagingConsumerFactory {
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
   private final UUID RANDOM_CONNECTION_ID = UUID.randomUUID();
 
+  private final int maxConcurrentCopies;
+
+  public StagingConsumerFactory() {
+    this(0);
+  }
+
+  /**
+   * @param maxConcurrentCopies number of staged files that can be copied into the tmp tables at the
+   *        same time, in the background as soon as they are uploaded. If zero, all the staged files
+   *        are copied when the consumer is closed.
+   */
+  public StagingConsumerFactory(final int maxConcurrentCopies) {
+    this.maxConcurrentCopies = maxConcurrentCopies;
+  }
+
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
                                        final JdbcDatabase database,
                                        final StagingOperations stagingOperations,
@@ -61,14 +90,18 @@ public class StagingConsumerFactory {
                                        final JsonNode config,
                                        final ConfiguredAirbyteCatalog catalog) {
     final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog);
+    final BackgroundStageCopier stageCopier = maxConcurrentCopies > 0 ? new BackgroundStageCopier(maxConcurrentCopies) : null;
     return new BufferedStreamConsumer(
         outputRecordCollector,
         onStartFunction(database, stagingOperations, writeConfigs),
+        // buffers of different streams are flushed concurrently: the database gives each call its own
+        // pooled connection, and stagingOperations must be thread-safe (see StagingOperations).
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(database, stagingOperations, writeConfigs, catalog)),
-        onCloseFunction(database, stagingOperations, writeConfigs),
+            flushBufferFunction(database, stagingOperations, writeConfigs, catalog, stageCopier),
+            SerializedBufferingStrategy.DEFAULT_MAX_CONCURRENT_FLUSHES),
+        onCloseFunction(database, stagingOperations, writeConfigs, stageCopier),
         catalog,
         stagingOperations::isValidData);
   }
@@ -147,7 +180,8 @@ public class StagingConsumerFactory {
                                                                                                                final JdbcDatabase database,
                                                                                                                final StagingOperations stagingOperations,
                                                                                                                final List<WriteConfig> writeConfigs,
-                                                                                                               final ConfiguredAirbyteCatalog catalog) {
+                                                                                                               final ConfiguredAirbyteCatalog catalog,
+                                                                                                               final BackgroundStageCopier stageCopier) {
     final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig =
         writeConfigs.stream()
             .collect(Collectors.toUnmodifiableMap(
@@ -160,6 +194,10 @@ public class StagingConsumerFactory {
             String.format("Message contained record from a stream that was not in the catalog. \ncatalog: %s", Jsons.serialize(catalog)));
       }
 
+      if (stageCopier != null) {
+        stageCopier.throwIfCopyFailed(pair);
+      }
+
       final WriteConfig writeConfig = pairToWriteConfig.get(pair);
       final String schemaName = writeConfig.getOutputSchemaName();
       final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
@@ -167,7 +205,12 @@ public class StagingConsumerFactory {
           stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, writeConfig.getStreamName(), writeConfig.getWriteDatetime());
       try (writer) {
         writer.flush();
-        writeConfig.addStagedFile(stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath));
+        final String stagedFile = stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath);
+        writeConfig.addStagedFile(stagedFile);
+        if (stageCopier != null) {
+          stageCopier.copy(pair, () -> stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, List.of(stagedFile),
+              writeConfig.getTmpTableName(), schemaName));
+        }
       } catch (final Exception e) {
         LOGGER.error("Failed to flush and upload buffer to stage:", e);
         throw new RuntimeException("Failed to upload buffer to stage", e);
@@ -177,44 +220,57 @@ public class StagingConsumerFactory {
 
   private OnCloseFunction onCloseFunction(final JdbcDatabase database,
                                           final StagingOperations stagingOperations,
-                                          final List<WriteConfig> writeConfigs) {
+                                          final List<WriteConfig> writeConfigs,
+                                          final BackgroundStageCopier stageCopier) {
     return (hasFailed) -> {
-      if (!hasFailed) {
-        final List<String> queryList = new ArrayList<>();
-        LOGGER.info("Copying into tables in destination started for {} streams", writeConfigs.size());
-
-        for (final WriteConfig writeConfig : writeConfigs) {
-          final String schemaName = writeConfig.getOutputSchemaName();
-          final String streamName = writeConfig.getStreamName();
-          final String srcTableName = writeConfig.getTmpTableName();
-          final String dstTableName = writeConfig.getOutputTableName();
-          final String stageName = stagingOperations.getStageName(schemaName, streamName);
-          final String stagingPath = stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, streamName, writeConfig.getWriteDatetime());
-          LOGGER.info("Copying stream {} of schema {} into tmp table {} to final table {} from stage path {} with {} file(s) [{}]",
-              streamName, schemaName, srcTableName, dstTableName, stagingPath, writeConfig.getStagedFiles().size(),
-              String.join(",", writeConfig.getStagedFiles()));
-
-          try {
-            stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
-          } catch (final Exception e) {
-            stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
-            LOGGER.info("Cleaning stage path {}", stagingPath);
-            throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
-          }
-          writeConfig.clearStagedFiles();
+      try {
+        if (!hasFailed) {
+          final List<String> queryList = new ArrayList<>();
+          LOGGER.info("Copying into tables in destination started for {} streams", writeConfigs.size());
+
+          for (final WriteConfig writeConfig : writeConfigs) {
+            final String schemaName = writeConfig.getOutputSchemaName();
+            final String streamName = writeConfig.getStreamName();
+            final String srcTableName = writeConfig.getTmpTableName();
+            final String dstTableName = writeConfig.getOutputTableName();
+            final String stageName = stagingOperations.getStageName(schemaName, streamName);
+            final String stagingPath = stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, streamName, writeConfig.getWriteDatetime());
+            LOGGER.info("Copying stream {} of schema {} into tmp table {} to final table {} from stage path {} with {} file(s) [{}]",
+                streamName, schemaName, srcTableName, dstTableName, stagingPath, writeConfig.getStagedFiles().size(),
+                String.join(",", writeConfig.getStagedFiles()));
 
-          stagingOperations.createTableIfNotExists(database, schemaName, dstTableName);
-          switch (writeConfig.getSyncMode()) {
-            case OVERWRITE -> queryList.add(stagingOperations.truncateTableQuery(database, schemaName, dstTableName));
-            case APPEND, APPEND_DEDUP -> {}
-            default -> throw new IllegalStateException("Unrecognized sync mode: " + writeConfig.getSyncMode());
+            try {
+              if (stageCopier != null) {
+                // the staged files were copied in the background during the sync.
+                stageCopier.waitForCopies(toNameNamespacePair(writeConfig));
+              } else {
+                stagingOperations.copyIntoTmpTableFromStage(database, stageName, stagingPath, writeConfig.getStagedFiles(), srcTableName, schemaName);
+              }
+            } catch (final Exception e) {
+              stagingOperations.cleanUpStage(database, stageName, writeConfig.getStagedFiles());
+              LOGGER.info("Cleaning stage path {}", stagingPath);
+              throw new RuntimeException("Failed to upload data from stage " + stagingPath, e);
+            }
+            writeConfig.clearStagedFiles();
+
+            stagingOperations.createTableIfNotExists(database, schemaName, dstTableName);
+            switch (writeConfig.getSyncMode()) {
+              case OVERWRITE -> queryList.add(stagingOperations.truncateTableQuery(database, schemaName, dstTableName));
+              case APPEND, APPEND_DEDUP -> {}
+              default -> throw new IllegalStateException("Unrecognized sync mode: " + writeConfig.getSyncMode());
+            }
+            queryList.add(stagingOperations.copyTableQuery(database, schemaName, srcTableName, dstTableName));
           }
-          queryList.add(stagingOperations.copyTableQuery(database, schemaName, srcTableName, dstTableName));
-        }
 
-        LOGGER.info("Executing finalization of tables.");
-        stagingOperations.executeTransaction(database, queryList);
-        LOGGER.info("Finalizing tables in destination completed.");
+          LOGGER.info("Executing finalization of tables.");
+          stagingOperations.executeTransaction(database, queryList);
+          LOGGER.info("Finalizing tables in destination completed.");
+        }
+      } finally {
+        if (stageCopier != null) {
+          // the tmp tables are dropped below, so files still waiting to be copied into them are abandoned.
+          stageCopier.close();
+        }
       }
       LOGGER.info("Cleaning up destination started for {} streams", writeConfigs.size());
       for (final WriteConfig writeConfig : writeConfigs) {
@@ -233,4 +289,73 @@ public class StagingConsumerFactory {
     };
   }
 
+  /**
+   * Copies staged files into the tmp tables in the background, as soon as they are uploaded. Files of
+   * a same stream are copied one at a time and in order, while files of different streams are copied
+   * concurrently. Once a copy failed, the following files of the stream are not copied.
+   */
+  private static class BackgroundStageCopier {
+
+    private final ExecutorService copyExecutor;
+    private final Map<AirbyteStreamNameNamespacePair, CompletableFuture<Void>> streamToLastCopy = new ConcurrentHashMap<>();
+
+    BackgroundStageCopier(final int maxConcurrentCopies) {
+      this.copyExecutor = Executors.newFixedThreadPool(maxConcurrentCopies, new BasicThreadFactory.Builder()
+          .namingPattern("stage-copy-%d")
+          .daemon(true)
+          .build());
+    }
+
+    void copy(final AirbyteStreamNameNamespacePair stream, final VoidCallable copy) {
+      // chaining on the previous copy of the stream keeps copies of a same stream sequential.
+      streamToLastCopy.compute(stream, (key, previousCopy) -> (previousCopy == null ? CompletableFuture.<Void>completedFuture(null) : previousCopy)
+          .thenRunAsync(() -> {
+            try {
+              copy.call();
+            } catch (final Exception e) {
+              LOGGER.error("Failed to copy staged file of stream {} into its tmp table", stream.getName(), e);
+              throw new CompletionException(e);
+            }
+          }, copyExecutor));
+    }
+
+    /**
+     * Surfaces a failed copy at the next upload of the stream, instead of waiting for the end of the
+     * sync.
+     */
+    void throwIfCopyFailed(final AirbyteStreamNameNamespacePair stream) {
+      final CompletableFuture<Void> lastCopy = streamToLastCopy.get(stream);
+      if (lastCopy != null && lastCopy.isCompletedExceptionally()) {
+        try {
+          waitForCopies(stream);
+        } catch (final Exception e) {
+          throw new RuntimeException("Failed to copy staged files of stream " + stream.getName(), e);
+        }
+      }
+    }
+
+    void waitForCopies(final AirbyteStreamNameNamespacePair stream) throws Exception {
+      final CompletableFuture<Void> lastCopy = streamToLastCopy.get(stream);
+      if (lastCopy == null) {
+        return;
+      }
+      try {
+        lastCopy.get();
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    void close() throws InterruptedException {
+      copyExecutor.shutdownNow();
+      if (!copyExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.warn("Copies of staged files are still running after closing.");
+      }
+    }
+
+  }
+
 }
@@ -11,6 +11,15 @@ import java.util.List;
 import java.util.UUID;
 import org.joda.time.DateTime;
 
+/**
+ * Operations used to stage records before loading them into the destination tables.
+ *
+ * <p>
+ * {@link StagingConsumerFactory} uploads and copies the buffers of different streams concurrently,
+ * with the same instance and the same {@link JdbcDatabase}. Implementations must therefore be
+ * thread-safe, e.g. stateless, or with shared state kept in concurrent collections. Calls for a same
+ * stream are never concurrent.
+ */
 public interface StagingOperations extends SqlOperations {
 
   String getStageName(String namespace, String streamName);
@@ -5,7 +5,6 @@
 package io.airbyte.integrations.destination.oracle;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
@@ -138,9 +137,8 @@ public class OracleOperations implements SqlOperations {
         int i = 1;
         for (final AirbyteRecordMessage message : records) {
           // 1-indexed
-          final JsonNode formattedData = StandardNameTransformer.formatJsonPath(message.getData());
           statement.setString(i, uuidSupplier.get().toString());
-          statement.setString(i + 1, Jsons.serialize(formattedData));
+          statement.setString(i + 1, StandardNameTransformer.serializeJsonPath(message.getData()));
           statement.setTimestamp(i + 2, Timestamp.from(Instant.ofEpochMilli(message.getEmittedAt())));
           i += 3;
         }
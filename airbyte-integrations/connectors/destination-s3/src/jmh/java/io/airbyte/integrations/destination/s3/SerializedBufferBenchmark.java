@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import io.airbyte.commons.functional.CheckedBiFunction;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.destination.record_buffer.InMemoryBuffer;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.s3.avro.AvroSerializedBuffer;
+import io.airbyte.integrations.destination.s3.avro.S3AvroFormatConfig;
+import io.airbyte.integrations.destination.s3.csv.CsvSerializedBuffer;
+import io.airbyte.integrations.destination.s3.csv.S3CsvFormatConfig;
+import io.airbyte.integrations.destination.s3.jsonl.JsonLSerializedBuffer;
+import io.airbyte.integrations.destination.s3.jsonl.S3JsonlFormatConfig;
+import io.airbyte.integrations.destination.s3.parquet.ParquetSerializedBuffer;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how fast records are serialized into the buffers of each output format. Each invocation
+ * writes about 10MB of record data, and counts as 10 operations, so that the score reads in MB per
+ * second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializedBufferBenchmark {
+
+  private static final int MB_PER_INVOCATION = 10;
+  private static final String STREAM = "users";
+  private static final AirbyteStreamNameNamespacePair STREAM_PAIR = new AirbyteStreamNameNamespacePair(STREAM, null);
+  private static final ConfiguredAirbyteCatalog CATALOG = CatalogHelpers.createConfiguredAirbyteCatalog(STREAM, null,
+      Field.of("id", JsonSchemaType.NUMBER),
+      Field.of("name", JsonSchemaType.STRING));
+
+  @Param({"jsonl", "csv", "avro", "parquet"})
+  public String format;
+
+  @Param({"100", "10240"})
+  public int recordSizeBytes;
+
+  private CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createBuffer;
+  private AirbyteRecordMessage record;
+  private int recordsPerInvocation;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    createBuffer = switch (format) {
+      case "jsonl" -> JsonLSerializedBuffer.createFunction(
+          new S3JsonlFormatConfig(Jsons.jsonNode(Map.of("format_type", "JSONL"))),
+          () -> new InMemoryBuffer(".jsonl.gz"));
+      case "csv" -> CsvSerializedBuffer.createFunction(
+          new S3CsvFormatConfig(Jsons.jsonNode(Map.of("format_type", "CSV"))),
+          () -> new InMemoryBuffer(".csv.gz"));
+      case "avro" -> AvroSerializedBuffer.createFunction(
+          new S3AvroFormatConfig(Jsons.jsonNode(Map.of("compression_codec", Map.of("codec", "no compression")))),
+          () -> new InMemoryBuffer(AvroSerializedBuffer.DEFAULT_SUFFIX));
+      case "parquet" -> ParquetSerializedBuffer.createFunction(S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+          "format", Map.of("format_type", "parquet"),
+          "s3_bucket_name", "benchmark",
+          "s3_bucket_region", "us-east-2"))));
+      default -> throw new IllegalArgumentException("Unknown format " + format);
+    };
+    record = new AirbyteRecordMessage()
+        .withStream(STREAM)
+        .withEmittedAt(1L)
+        .withData(Jsons.jsonNode(Map.of("id", 1, "name", "a".repeat(recordSizeBytes))));
+    recordsPerInvocation = Math.max(1, MB_PER_INVOCATION * 1024 * 1024 / recordSizeBytes);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MB_PER_INVOCATION)
+  public void serialize(final Blackhole blackhole) throws Exception {
+    try (final SerializableBuffer buffer = createBuffer.apply(STREAM_PAIR, CATALOG)) {
+      for (int i = 0; i < recordsPerInvocation; i++) {
+        buffer.accept(record);
+      }
+      buffer.flush();
+      try (final InputStream inputStream = buffer.getInputStream()) {
+        blackhole.consume(inputStream.readAllBytes());
+      }
+    }
+  }
+
+}
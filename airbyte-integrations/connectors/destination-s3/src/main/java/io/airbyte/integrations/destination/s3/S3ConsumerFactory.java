@@ -52,7 +52,8 @@ public class S3ConsumerFactory {
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(storageOperations, writeConfigs, catalog)),
+            flushBufferFunction(storageOperations, writeConfigs, catalog),
+            SerializedBufferingStrategy.DEFAULT_MAX_CONCURRENT_FLUSHES),
         onCloseFunction(storageOperations, writeConfigs),
         catalog,
         storageOperations::isValidData);
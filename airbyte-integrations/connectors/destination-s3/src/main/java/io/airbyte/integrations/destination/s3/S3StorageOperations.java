@@ -24,6 +24,9 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import org.apache.commons.io.FilenameUtils;
 import org.joda.time.DateTime;
@@ -55,6 +58,8 @@ public class S3StorageOperations implements BlobStorageOperations {
   private final NamingConventionTransformer nameTransformer;
   protected final S3DestinationConfig s3Config;
   protected AmazonS3 s3Client;
+  // next part id of each object path, seeded from the bucket when uploading its first file.
+  private final ConcurrentMap<String, AtomicInteger> partCounts = new ConcurrentHashMap<>();
 
   public S3StorageOperations(final NamingConventionTransformer nameTransformer, final AmazonS3 s3Client, final S3DestinationConfig s3Config) {
     this.nameTransformer = nameTransformer;
@@ -129,6 +134,8 @@ public class S3StorageOperations implements BlobStorageOperations {
     final long partSize = s3Config.getFormatConfig() != null ? s3Config.getFormatConfig().getPartSize() : DEFAULT_PART_SIZE;
     final String bucket = s3Config.getBucketName();
     final String fullObjectKey = objectPath + getPartId(objectPath) + getExtension(recordsData.getFilename());
+    // the integrity check compares the ETag of the completed multipart upload with the uploaded parts,
+    // so the object does not need to be looked up afterwards.
     final StreamTransferManager uploadManager = StreamTransferManagerHelper
         .getDefault(bucket, fullObjectKey, s3Client, partSize)
         .checkIntegrity(true)
@@ -149,10 +156,6 @@ public class S3StorageOperations implements BlobStorageOperations {
         uploadManager.complete();
       }
     }
-    if (!s3Client.doesObjectExist(bucket, fullObjectKey)) {
-      LOGGER.error("Failed to upload data into storage, object {} not found", fullObjectKey);
-      throw new RuntimeException("Upload failed");
-    }
     final String newFilename = getFilename(fullObjectKey);
     LOGGER.info("Uploaded buffer file to storage: {} -> {} (filename: {})", recordsData.getFilename(), fullObjectKey, newFilename);
     return newFilename;
@@ -173,15 +176,23 @@ public class S3StorageOperations implements BlobStorageOperations {
     return "." + result;
   }
 
-  private String getPartId(final String objectPath) {
-    final String bucket = s3Config.getBucketName();
-    final ObjectListing objects = s3Client.listObjects(bucket, objectPath);
-    if (objects.isTruncated()) {
-      // bucket contains too many objects, use an uuid instead
-      return UUID.randomUUID().toString();
-    } else {
-      return Integer.toString(objects.getObjectSummaries().size());
+  /**
+   * Part ids are allocated locally, so that the bucket is only listed once per object path instead of
+   * before each upload.
+   */
+  @VisibleForTesting
+  String getPartId(final String objectPath) {
+    return Integer.toString(partCounts.computeIfAbsent(objectPath, this::countObjects).getAndIncrement());
+  }
+
+  private AtomicInteger countObjects(final String objectPath) {
+    ObjectListing objects = s3Client.listObjects(s3Config.getBucketName(), objectPath);
+    int count = objects.getObjectSummaries().size();
+    while (objects.isTruncated()) {
+      objects = s3Client.listNextBatchOfObjects(objects);
+      count += objects.getObjectSummaries().size();
     }
+    return new AtomicInteger(count);
   }
 
   @Override
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -24,10 +25,13 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  private final JsonToAvroRecordConverter recordConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    // the record converter follows the conversion of JSON_CONVERTER, so it cannot replace another one.
+    this.recordConverter = converter == AvroConstants.JSON_CONVERTER ? new JsonToAvroRecordConverter(schema) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
@@ -36,12 +40,25 @@ public class AvroRecordFactory {
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
     jsonRecord.setAll((ObjectNode) recordMessage.getData());
 
-    return converter.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
+    return convert(jsonRecord);
+  }
+
+  public GenericData.Record getAvroRecord(final JsonNode formattedData) throws JsonProcessingException {
+    return convert(formattedData);
   }
 
-  public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
-    var bytes = WRITER.writeValueAsBytes(formattedData);
-    return converter.convertToGenericDataRecord(bytes, schema);
+  /**
+   * Converts the json tree directly when possible, and otherwise serializes it for the json converter
+   * to parse it.
+   */
+  private GenericData.Record convert(final JsonNode jsonRecord) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final Optional<GenericData.Record> record = recordConverter.convert(jsonRecord);
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+    return converter.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
   }
 
 }
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.jackson.MoreMappers;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.avro.JsonProperties;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Type;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts json records to Avro records of a schema produced by {@link JsonToAvroSchemaConverter}.
+ * The schema is compiled once into a converter per field, which then walk the json tree of each
+ * record directly, instead of serializing it to bytes for {@link AvroConstants#JSON_CONVERTER} to
+ * parse them back. The conversion follows the one of {@link AvroConstants#JSON_CONVERTER}:
+ * <ul>
+ * <li>Json field names are mapped to Avro field names by {@link AvroConstants#NAME_TRANSFORMER}.</li>
+ * <li>Json fields missing from the schema, and the content of the json additional properties
+ * fields, are kept as strings in the {@link AvroConstants#AVRO_EXTRA_PROPS_FIELD} field.</li>
+ * <li>Union branches are tried in order against the type of the json value. When none of them
+ * matches, the value is converted to a string if the union has a string branch.</li>
+ * <li>Date, time-micros and timestamp-micros fields are parsed from ISO-8601 strings.</li>
+ * </ul>
+ * Values whose conversion is ambiguous, e.g. a decimal number for an int field, or a date in
+ * another format, are not converted: the whole record should be converted by
+ * {@link AvroConstants#JSON_CONVERTER} instead.
+ *
+ * <p>
+ * A converter caches the Avro field of each json field name it meets, and should only be used by a
+ * single thread.
+ * </p>
+ */
+public class JsonToAvroRecordConverter {
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  // returned by a converter for a json value of another type, so that the next union branch is tried.
+  private static final Object INCOMPATIBLE = new Object();
+  // records with many distinct unknown fields should not grow the field name caches without bounds.
+  private static final int MAX_CACHED_FIELD_NAMES = 1000;
+
+  private final RecordConverter rootConverter;
+
+  public JsonToAvroRecordConverter(final Schema schema) {
+    Preconditions.checkArgument(schema.getType() == Type.RECORD, "Schema %s is not a record", schema.getFullName());
+    this.rootConverter = compileRecord(schema, new IdentityHashMap<>());
+  }
+
+  /**
+   * @return the Avro record, or empty if the json record has values that this converter does not
+   *         handle.
+   */
+  public Optional<GenericData.Record> convert(final JsonNode json) {
+    if (json == null || !json.isObject()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(rootConverter.convertRecord(json));
+    } catch (final UnsupportedValueException e) {
+      return Optional.empty();
+    }
+  }
+
+  @FunctionalInterface
+  private interface ValueConverter {
+
+    /**
+     * @return the Avro value, or {@link #INCOMPATIBLE} if the json value has another type.
+     * @throws UnsupportedValueException if the conversion of the value is ambiguous.
+     */
+    Object convert(JsonNode value);
+
+  }
+
+  /**
+   * Thrown to give up on the conversion of a record. It is preallocated without a stack trace, since
+   * it is only used to stop walking the record.
+   */
+  private static class UnsupportedValueException extends RuntimeException {
+
+    private static final UnsupportedValueException INSTANCE = new UnsupportedValueException();
+
+    private UnsupportedValueException() {
+      super("Unsupported json value", null, false, false);
+    }
+
+  }
+
+  private static RecordConverter compileRecord(final Schema schema, final Map<Schema, RecordConverter> compiledRecords) {
+    final RecordConverter compiled = compiledRecords.get(schema);
+    if (compiled != null) {
+      return compiled;
+    }
+    // the converter is registered before its fields are compiled, in case the schema is recursive.
+    final RecordConverter recordConverter = new RecordConverter(schema);
+    compiledRecords.put(schema, recordConverter);
+    recordConverter.compileFields(compiledRecords);
+    return recordConverter;
+  }
+
+  /**
+   * Compiles a converter for the value of a field or of an array item, handling nulls and the string
+   * fallback of unions. A schema that is not a union is handled as a union of a single branch.
+   */
+  private static ValueConverter compileValue(final Schema schema, final Map<Schema, RecordConverter> compiledRecords) {
+    final List<Schema> branchSchemas = schema.getType() == Type.UNION ? schema.getTypes() : List.of(schema);
+    final List<ValueConverter> branches = new ArrayList<>();
+    boolean isNullable = false;
+    boolean hasStringBranch = false;
+    for (final Schema branchSchema : branchSchemas) {
+      if (branchSchema.getType() == Type.NULL) {
+        isNullable = true;
+      } else {
+        hasStringBranch |= branchSchema.getType() == Type.STRING;
+        branches.add(compileBranch(branchSchema, compiledRecords));
+      }
+    }
+    return new UnionConverter(branches.toArray(new ValueConverter[0]), isNullable, hasStringBranch);
+  }
+
+  private static ValueConverter compileBranch(final Schema schema, final Map<Schema, RecordConverter> compiledRecords) {
+    final LogicalType logicalType = schema.getLogicalType();
+    return switch (schema.getType()) {
+      case RECORD -> compileRecord(schema, compiledRecords);
+      case ARRAY -> new ArrayConverter(compileValue(schema.getElementType(), compiledRecords));
+      case STRING -> value -> value.isTextual() ? value.textValue() : INCOMPATIBLE;
+      case BOOLEAN -> value -> value.isBoolean() ? value.booleanValue() : INCOMPATIBLE;
+      case DOUBLE -> value -> isNumber(value) ? value.doubleValue() : INCOMPATIBLE;
+      case FLOAT -> value -> isNumber(value) ? value.floatValue() : INCOMPATIBLE;
+      case INT -> {
+        if (logicalType == null) {
+          yield value -> isNumber(value) ? toInt(value) : INCOMPATIBLE;
+        } else if (logicalType instanceof LogicalTypes.Date) {
+          yield value -> value.isTextual() ? parseDate(value.textValue()) : unsupportedUnless(!isNumber(value));
+        }
+        yield value -> unsupported();
+      }
+      case LONG -> {
+        if (logicalType == null || logicalType instanceof LogicalTypes.TimestampMillis) {
+          yield value -> isNumber(value) ? toLong(value) : INCOMPATIBLE;
+        } else if (logicalType instanceof LogicalTypes.TimestampMicros) {
+          yield value -> value.isTextual() ? parseTimestampMicros(value.textValue()) : isNumber(value) ? toLong(value) : INCOMPATIBLE;
+        } else if (logicalType instanceof LogicalTypes.TimeMicros) {
+          yield value -> value.isTextual() ? parseTimeMicros(value.textValue()) : unsupportedUnless(!isNumber(value));
+        }
+        yield value -> unsupported();
+      }
+      // these types are not produced for json values by JsonToAvroSchemaConverter.
+      default -> value -> unsupported();
+    };
+  }
+
+  private static class UnionConverter implements ValueConverter {
+
+    private final ValueConverter[] branches;
+    private final boolean isNullable;
+    private final boolean hasStringBranch;
+
+    UnionConverter(final ValueConverter[] branches, final boolean isNullable, final boolean hasStringBranch) {
+      this.branches = branches;
+      this.isNullable = isNullable;
+      this.hasStringBranch = hasStringBranch;
+    }
+
+    @Override
+    public Object convert(final JsonNode value) {
+      if (value.isNull()) {
+        return isNullable ? null : unsupported();
+      }
+      for (final ValueConverter branch : branches) {
+        final Object result = branch.convert(value);
+        if (result != INCOMPATIBLE) {
+          return result;
+        }
+      }
+      return hasStringBranch ? toStringValue(value) : unsupported();
+    }
+
+  }
+
+  private static class ArrayConverter implements ValueConverter {
+
+    private final ValueConverter itemConverter;
+
+    ArrayConverter(final ValueConverter itemConverter) {
+      this.itemConverter = itemConverter;
+    }
+
+    @Override
+    public Object convert(final JsonNode value) {
+      if (!value.isArray()) {
+        return INCOMPATIBLE;
+      }
+      final List<Object> items = new ArrayList<>(value.size());
+      for (final JsonNode item : value) {
+        items.add(itemConverter.convert(item));
+      }
+      return items;
+    }
+
+  }
+
+  private static class RecordConverter implements ValueConverter {
+
+    private final Schema schema;
+    private final Map<String, Integer> fieldPositionsByJsonName = new HashMap<>();
+    private final ValueConverter[] fieldConverters;
+    private final int extraPropsPosition;
+    private final int[] requiredPositions;
+
+    RecordConverter(final Schema schema) {
+      this.schema = schema;
+      this.fieldConverters = new ValueConverter[schema.getFields().size()];
+      final Schema.Field extraPropsField = schema.getField(AvroConstants.AVRO_EXTRA_PROPS_FIELD);
+      this.extraPropsPosition = extraPropsField == null ? -1 : extraPropsField.pos();
+      // fields without a null default must be set by the json record.
+      this.requiredPositions = schema.getFields().stream()
+          .filter(field -> field.defaultVal() != JsonProperties.NULL_VALUE)
+          .mapToInt(Schema.Field::pos)
+          .toArray();
+    }
+
+    void compileFields(final Map<Schema, RecordConverter> compiledRecords) {
+      for (final Schema.Field field : schema.getFields()) {
+        fieldConverters[field.pos()] = field.pos() == extraPropsPosition
+            ? value -> unsupported()
+            : compileValue(field.schema(), compiledRecords);
+      }
+    }
+
+    @Override
+    public Object convert(final JsonNode value) {
+      return value.isObject() ? convertRecord(value) : INCOMPATIBLE;
+    }
+
+    GenericData.Record convertRecord(final JsonNode json) {
+      final GenericData.Record record = new GenericData.Record(schema);
+      Map<String, String> extraProps = null;
+      final Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        if (AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(field.getKey())) {
+          if (extraPropsPosition < 0 || !field.getValue().isObject()) {
+            unsupported();
+          }
+          final Iterator<Map.Entry<String, JsonNode>> props = field.getValue().fields();
+          while (props.hasNext()) {
+            final Map.Entry<String, JsonNode> prop = props.next();
+            extraProps = putExtraProp(extraProps, prop.getKey(), prop.getValue());
+          }
+          continue;
+        }
+
+        final int position = getFieldPosition(field.getKey());
+        if (position >= 0) {
+          record.put(position, fieldConverters[position].convert(field.getValue()));
+        } else if (extraPropsPosition >= 0) {
+          extraProps = putExtraProp(extraProps, field.getKey(), field.getValue());
+        } else {
+          unsupported();
+        }
+      }
+      if (extraProps != null) {
+        record.put(extraPropsPosition, extraProps);
+      }
+      for (final int position : requiredPositions) {
+        if (record.get(position) == null) {
+          unsupported();
+        }
+      }
+      return record;
+    }
+
+    private int getFieldPosition(final String jsonName) {
+      final Integer cachedPosition = fieldPositionsByJsonName.get(jsonName);
+      if (cachedPosition != null) {
+        return cachedPosition;
+      }
+      final Schema.Field field = schema.getField(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonName));
+      final int position = field == null ? -1 : field.pos();
+      if (fieldPositionsByJsonName.size() < MAX_CACHED_FIELD_NAMES) {
+        fieldPositionsByJsonName.put(jsonName, position);
+      }
+      return position;
+    }
+
+    private static Map<String, String> putExtraProp(final Map<String, String> extraProps, final String name, final JsonNode value) {
+      if (value.isNull() || value.isContainerNode()) {
+        unsupported();
+      }
+      final Map<String, String> props = extraProps == null ? new LinkedHashMap<>() : extraProps;
+      props.put(name, toStringValue(value));
+      return props;
+    }
+
+  }
+
+  /**
+   * Only integers and doubles are converted, which are the numbers parsed from json records. Other
+   * number nodes would not be converted the same way as their serialized form.
+   */
+  private static boolean isNumber(final JsonNode value) {
+    if (value.isIntegralNumber() || value.isDouble()) {
+      return true;
+    }
+    if (value.isNumber()) {
+      unsupported();
+    }
+    return false;
+  }
+
+  private static Object toInt(final JsonNode value) {
+    return value.isIntegralNumber() && value.canConvertToInt() ? value.intValue() : unsupported();
+  }
+
+  private static Object toLong(final JsonNode value) {
+    return value.isIntegralNumber() && value.canConvertToLong() ? value.longValue() : unsupported();
+  }
+
+  private static String toStringValue(final JsonNode value) {
+    if (value.isTextual()) {
+      return value.textValue();
+    } else if (value.isContainerNode()) {
+      try {
+        return MAPPER.writeValueAsString(value);
+      } catch (final JsonProcessingException e) {
+        return (String) unsupported();
+      }
+    } else if (isNumber(value) || value.isBoolean()) {
+      return value.asText();
+    }
+    return (String) unsupported();
+  }
+
+  private static Object parseDate(final String value) {
+    try {
+      return (int) LocalDate.parse(value).toEpochDay();
+    } catch (final DateTimeParseException e) {
+      return unsupported();
+    }
+  }
+
+  private static Object parseTimeMicros(final String value) {
+    try {
+      return LocalTime.parse(value).toNanoOfDay() / 1_000;
+    } catch (final DateTimeParseException e) {
+      return unsupported();
+    }
+  }
+
+  private static Object parseTimestampMicros(final String value) {
+    try {
+      final Instant instant = OffsetDateTime.parse(value).toInstant();
+      return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    } catch (final DateTimeParseException e) {
+      return unsupported();
+    }
+  }
+
+  private static Object unsupportedUnless(final boolean isIncompatible) {
+    return isIncompatible ? INCOMPATIBLE : unsupported();
+  }
+
+  private static Object unsupported() {
+    throw UnsupportedValueException.INSTANCE;
+  }
+
+}
@@ -4,11 +4,13 @@
 
 package io.airbyte.integrations.destination.s3.jsonl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.commons.jackson.MoreMappers;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.record_buffer.BaseSerializedBuffer;
@@ -16,9 +18,8 @@ import io.airbyte.integrations.destination.record_buffer.BufferStorage;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -27,8 +28,10 @@ public class JsonLSerializedBuffer extends BaseSerializedBuffer {
   public static final String JSONL_GZ_SUFFIX = ".jsonl.gz";
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  // the generator is only flushed along with the buffer, rather than after each record.
+  private static final ObjectWriter WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
-  private PrintWriter printWriter;
+  private JsonGenerator generator;
 
   protected JsonLSerializedBuffer(final BufferStorage bufferStorage) throws Exception {
     super(bufferStorage);
@@ -37,27 +40,31 @@ public class JsonLSerializedBuffer extends BaseSerializedBuffer {
   }
 
   @Override
-  protected void createWriter(final OutputStream outputStream) {
-    printWriter = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+  protected void createWriter(final OutputStream outputStream) throws IOException {
+    // records are serialized as utf-8 straight to the output stream. they are separated by new lines,
+    // written after each of them.
+    generator = MAPPER.getFactory().createGenerator(outputStream);
+    generator.setRootValueSeparator(null);
   }
 
   @Override
-  protected void writeRecord(final AirbyteRecordMessage recordMessage) {
+  protected void writeRecord(final AirbyteRecordMessage recordMessage) throws IOException {
     final ObjectNode json = MAPPER.createObjectNode();
     json.put(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString());
     json.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
     json.set(JavaBaseConstants.COLUMN_NAME_DATA, recordMessage.getData());
-    printWriter.println(Jsons.serialize(json));
+    WRITER.writeValue(generator, json);
+    generator.writeRaw('\n');
   }
 
   @Override
-  protected void flushWriter() {
-    printWriter.flush();
+  protected void flushWriter() throws IOException {
+    generator.flush();
   }
 
   @Override
-  protected void closeWriter() {
-    printWriter.close();
+  protected void closeWriter() throws IOException {
+    generator.close();
   }
 
   public static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createFunction(final S3JsonlFormatConfig config,
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +53,7 @@ public class S3StorageOperationsTest {
     when(results.isTruncated()).thenReturn(false);
     when(results.getObjectSummaries()).thenReturn(List.of(objectSummary1, objectSummary2, objectSummary3));
     when(s3Client.listObjects(any(ListObjectsRequest.class))).thenReturn(results);
+    when(s3Client.listObjects(BUCKET_NAME, FAKE_BUCKET_PATH)).thenReturn(results);
 
     final S3DestinationConfig s3Config = S3DestinationConfig.create(BUCKET_NAME, FAKE_BUCKET_PATH, "fake-region")
         .withEndpoint("fake-endpoint")
@@ -99,6 +101,14 @@ public class S3StorageOperationsTest {
     assertEquals(OBJECT_TO_DELETE, deleteRequest.getValue().getKeys().get(0).getKey());
   }
 
+  @Test
+  void testGetPartId() {
+    assertEquals("3", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("4", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("5", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    verify(s3Client, times(1)).listObjects(BUCKET_NAME, FAKE_BUCKET_PATH);
+  }
+
   @Test
   void testGetFilename() {
     assertEquals("filename", S3StorageOperations.getFilename("filename"));
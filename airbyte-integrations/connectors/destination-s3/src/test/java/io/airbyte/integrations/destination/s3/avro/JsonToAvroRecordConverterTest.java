@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Type;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonToAvroRecordConverterTest {
+
+  // test cases whose records are left to the json converter: a numeric string for a timestamp field.
+  private static final Set<String> UNSUPPORTED_TEST_CASES = Set.of("record_with_combined_restriction_field");
+
+  private static final Schema SCHEMA = SchemaBuilder.record("users").fields()
+      .optionalInt("id")
+      .name("created_at").type().unionOf()
+      .nullType().and()
+      .type(LogicalTypes.timestampMicros().addToSchema(Schema.create(Type.LONG))).and()
+      .stringType().endUnion().nullDefault()
+      .name(AvroConstants.AVRO_EXTRA_PROPS_FIELD).type().optional().map().values().stringType()
+      .endRecord();
+
+  public static class ConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("jsonObject"),
+          testCase.get("avroSchema"),
+          testCase.get("avroObject")));
+    }
+
+  }
+
+  /**
+   * The records should be converted the same way as by {@link AvroConstants#JSON_CONVERTER} in
+   * {@link JsonToAvroConverterTest}.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestCaseProvider.class)
+  public void testConversion(final String schemaName, final JsonNode jsonObject, final JsonNode avroSchema, final JsonNode avroObject) {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(new Schema.Parser().parse(Jsons.serialize(avroSchema)));
+    final Optional<GenericData.Record> actualAvroObject = converter.convert(jsonObject);
+
+    if (UNSUPPORTED_TEST_CASES.contains(schemaName)) {
+      assertTrue(actualAvroObject.isEmpty(), String.format("Object conversion for %s should be unsupported", schemaName));
+    } else {
+      assertTrue(actualAvroObject.isPresent(), String.format("Object conversion for %s failed", schemaName));
+      assertEquals(avroObject, Jsons.deserialize(actualAvroObject.get().toString()), String.format("Object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  public void testReusesFieldNamesAcrossRecords() {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(SCHEMA);
+
+    for (int id = 0; id < 3; id++) {
+      final GenericData.Record record = converter.convert(Jsons.jsonNode(Map.of("id", id, "name", "user" + id))).orElseThrow();
+      assertEquals(id, record.get("id"));
+      assertEquals(Map.of("name", "user" + id), record.get("_airbyte_additional_properties"));
+    }
+  }
+
+  @Test
+  public void testAmbiguousValuesAreUnsupported() {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(SCHEMA);
+
+    // decimal number for an int field.
+    assertTrue(converter.convert(Jsons.deserialize("{\"id\": 1.5}")).isEmpty());
+    // integer too large for an int field.
+    assertTrue(converter.convert(Jsons.deserialize("{\"id\": 10000000000}")).isEmpty());
+    // timestamp that is not in the ISO-8601 format.
+    assertTrue(converter.convert(Jsons.deserialize("{\"created_at\": \"01/01/2021\"}")).isEmpty());
+    // nested additional property.
+    assertTrue(converter.convert(Jsons.deserialize("{\"address\": {\"city\": \"Paris\"}}")).isEmpty());
+    // not a json object.
+    assertTrue(converter.convert(Jsons.deserialize("[1, 2]")).isEmpty());
+  }
+
+}
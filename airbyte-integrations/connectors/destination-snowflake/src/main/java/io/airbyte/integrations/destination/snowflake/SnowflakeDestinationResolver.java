@@ -37,6 +37,15 @@ public class SnowflakeDestinationResolver {
         && config.get("loading_method").has("azure_blob_storage_account_name");
   }
 
+  /**
+   * @return whether staged files are copied into the tmp tables as soon as they are uploaded, rather
+   *         than all at once at the end of the sync.
+   */
+  public static boolean isCopyingDuringSync(final JsonNode config) {
+    return config.has("loading_method") && config.get("loading_method").isObject()
+        && config.get("loading_method").has("copy_during_sync") && config.get("loading_method").get("copy_during_sync").asBoolean();
+  }
+
   public static Map<DestinationType, Destination> getTypeToDestination() {
     final SnowflakeS3StagingDestination s3StagingDestination = new SnowflakeS3StagingDestination();
     final SnowflakeCopyGcsDestination copyGcsDestination = new SnowflakeCopyGcsDestination();
@@ -89,7 +89,8 @@ public class SnowflakeInternalStagingDestination extends AbstractJdbcDestination
   public AirbyteMessageConsumer getConsumer(final JsonNode config,
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
-    return new StagingConsumerFactory().create(
+    final int maxConcurrentCopies = SnowflakeDestinationResolver.isCopyingDuringSync(config) ? StagingConsumerFactory.DEFAULT_MAX_CONCURRENT_COPIES : 0;
+    return new StagingConsumerFactory(maxConcurrentCopies).create(
         outputRecordCollector,
         getDatabase(config),
         new SnowflakeInternalStagingSqlOperations(getNamingResolver()),
@@ -93,7 +93,8 @@ public class SnowflakeS3StagingDestination extends AbstractJdbcDestination imple
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
     final S3DestinationConfig s3Config = getS3DestinationConfig(config);
-    return new StagingConsumerFactory().create(
+    final int maxConcurrentCopies = SnowflakeDestinationResolver.isCopyingDuringSync(config) ? StagingConsumerFactory.DEFAULT_MAX_CONCURRENT_COPIES : 0;
+    return new StagingConsumerFactory(maxConcurrentCopies).create(
         outputRecordCollector,
         getDatabase(config),
         new SnowflakeS3StagingSqlOperations(getNamingResolver(), s3Config.getS3Client(), s3Config),
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -42,6 +43,7 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -120,6 +122,96 @@ public class SnowflakeDestinationTest {
     verify(sqlOperations, times(1)).cleanUpStage(any(), anyString(), anyList());
   }
 
+  @Test
+  public void testIsCopyingDuringSync() {
+    final var stubLoadingMethod = mapper.createObjectNode();
+    final var stubConfig = mapper.createObjectNode();
+    stubConfig.set("loading_method", stubLoadingMethod);
+    assertFalse(SnowflakeDestinationResolver.isCopyingDuringSync(stubConfig));
+
+    stubLoadingMethod.put("copy_during_sync", true);
+    assertTrue(SnowflakeDestinationResolver.isCopyingDuringSync(stubConfig));
+  }
+
+  @Test
+  public void testCopyStagedFilesDuringSync() throws Exception {
+    final JdbcDatabase mockDb = mock(JdbcDatabase.class);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mockStagingOperations();
+    final AirbyteMessageConsumer airbyteMessageConsumer = createConsumerCopyingDuringSync(mockDb, sqlOperations);
+
+    airbyteMessageConsumer.start();
+    for (final AirbyteMessage m : generateTestMessages()) {
+      airbyteMessageConsumer.accept(m);
+    }
+    airbyteMessageConsumer.close();
+
+    // the staged file is only copied once, right after its upload.
+    verify(sqlOperations, times(1)).copyIntoTmpTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    verify(sqlOperations).copyIntoTmpTableFromStage(any(), eq("stage_name"), eq("staging_path"), eq(List.of("staged_file")), anyString(), anyString());
+    verify(sqlOperations).executeTransaction(any(), anyList());
+  }
+
+  @Test
+  public void testCleanupStageOnFailedCopyDuringSync() throws Exception {
+    final JdbcDatabase mockDb = mock(JdbcDatabase.class);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mockStagingOperations();
+    doThrow(SQLException.class).when(sqlOperations).copyIntoTmpTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    final AirbyteMessageConsumer airbyteMessageConsumer = createConsumerCopyingDuringSync(mockDb, sqlOperations);
+
+    airbyteMessageConsumer.start();
+    for (final AirbyteMessage m : generateTestMessages()) {
+      airbyteMessageConsumer.accept(m);
+    }
+    assertThrows(RuntimeException.class, airbyteMessageConsumer::close);
+
+    verify(sqlOperations, times(1)).cleanUpStage(any(), anyString(), eq(List.of("staged_file")));
+  }
+
+  @Test
+  public void testCloseCopierOnFailedCopyDuringSync() throws Exception {
+    final JdbcDatabase mockDb = mock(JdbcDatabase.class);
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mockStagingOperations();
+    doThrow(SQLException.class).when(sqlOperations).copyIntoTmpTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    final AirbyteMessageConsumer airbyteMessageConsumer = createConsumerCopyingDuringSync(mockDb, sqlOperations);
+
+    airbyteMessageConsumer.start();
+    for (final AirbyteMessage m : generateTestMessages()) {
+      airbyteMessageConsumer.accept(m);
+    }
+    assertThrows(RuntimeException.class, airbyteMessageConsumer::close);
+
+    // the copy threads only stop once the copier is closed.
+    for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().startsWith("stage-copy-")) {
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(thread.isAlive(), "copy thread " + thread.getName() + " is still running");
+      }
+    }
+  }
+
+  private static SnowflakeInternalStagingSqlOperations mockStagingOperations() throws Exception {
+    final SnowflakeInternalStagingSqlOperations sqlOperations = mock(SnowflakeInternalStagingSqlOperations.class);
+    when(sqlOperations.getStageName(anyString(), anyString())).thenReturn("stage_name");
+    when(sqlOperations.getStagingPath(any(UUID.class), anyString(), anyString(), any())).thenReturn("staging_path");
+    when(sqlOperations.uploadRecordsToStage(any(), any(), anyString(), anyString(), anyString())).thenReturn("staged_file");
+    when(sqlOperations.isValidData(any())).thenReturn(true);
+    return sqlOperations;
+  }
+
+  private AirbyteMessageConsumer createConsumerCopyingDuringSync(final JdbcDatabase database,
+                                                                 final SnowflakeInternalStagingSqlOperations sqlOperations)
+      throws Exception {
+    final JsonNode config = Jsons.deserialize(MoreResources.readResource("insert_config.json"), JsonNode.class);
+    return new StagingConsumerFactory(StagingConsumerFactory.DEFAULT_MAX_CONCURRENT_COPIES).create(
+        Destination::defaultOutputRecordCollector,
+        database,
+        sqlOperations,
+        new SnowflakeSQLNameTransformer(),
+        CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(".csv")),
+        config,
+        getCatalog());
+  }
+
   @ParameterizedTest
   @MethodSource("destinationTypeToConfig")
   public void testS3ConfigType(final String configFileName, final DestinationType expectedDestinationType) throws Exception {
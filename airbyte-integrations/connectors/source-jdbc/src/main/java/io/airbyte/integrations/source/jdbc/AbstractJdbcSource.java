@@ -31,15 +31,26 @@ import io.airbyte.db.SqlDatabase;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import io.airbyte.db.jdbc.JdbcUtils;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.KeyRangeChunkIterator;
+import io.airbyte.integrations.source.relationaldb.StateManager;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.CommonField;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,6 +58,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -64,6 +76,12 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
 
+  public static final String MAX_CONCURRENT_TABLE_READS_KEY = "max_concurrent_table_reads";
+  public static final String FULL_REFRESH_CHUNK_SIZE_KEY = "full_refresh_chunk_size";
+  public static final String INCREMENTAL_CHECKPOINT_RECORDS_KEY = "incremental_checkpoint_records";
+
+  private static final Set<Integer> INTEGER_KEY_TYPES = Set.of(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT);
+
   protected final String driverClass;
   protected final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
   protected final JdbcCompatibleSourceOperations<Datatype> sourceOperations;
@@ -78,6 +96,43 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     this.sourceOperations = sourceOperations;
   }
 
+  /**
+   * Tables are read concurrently when the config has a {@code max_concurrent_table_reads} greater than
+   * 1. Each table being read holds a connection of the pool, so it is capped to the pool size.
+   */
+  @Override
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    if (!config.hasNonNull(MAX_CONCURRENT_TABLE_READS_KEY)) {
+      return 1;
+    }
+    final int maxConcurrentTableReads = config.get(MAX_CONCURRENT_TABLE_READS_KEY).asInt(1);
+    return Math.max(1, Math.min(maxConcurrentTableReads, Databases.MAX_POOLED_CONNECTIONS));
+  }
+
+  /**
+   * Incremental streams emit intermediate states when the config has a positive
+   * {@code incremental_checkpoint_records}. Their records are then queried ordered by cursor.
+   */
+  @Override
+  protected long getIncrementalCheckpointRecords(final JsonNode config) {
+    if (config == null || !config.hasNonNull(INCREMENTAL_CHECKPOINT_RECORDS_KEY)) {
+      return 0;
+    }
+    return Math.max(0, config.get(INCREMENTAL_CHECKPOINT_RECORDS_KEY).asLong(0));
+  }
+
+  /**
+   * @return the clause ordering the records of an incremental query by cursor when intermediate
+   *         states are emitted, which requires it, or an empty string otherwise.
+   */
+  protected String getIncrementalOrderByClause(final JdbcDatabase database, final Connection connection, final String cursorField)
+      throws SQLException {
+    if (getIncrementalCheckpointRecords(database.getSourceConfig()) <= 0) {
+      return "";
+    }
+    return " ORDER BY " + sourceOperations.enquoteIdentifier(connection, cursorField);
+  }
+
   /**
    * Configures a list of operations that can be used to check the connection to the source.
    *
@@ -199,6 +254,157 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     return discoverInternal(database, null);
   }
 
+  /**
+   * Full refresh streams are read in chunks when the config has a positive
+   * {@code full_refresh_chunk_size}, and the table has a primary key made of a single integer column.
+   * Each chunk covers {@code full_refresh_chunk_size} consecutive values of the primary key, from its
+   * lower bound included to the lower bound of the next chunk excluded. If the table has a primary key
+   * of another type, it is read by a single query.
+   *
+   * <p>
+   * A state message is emitted after each chunk so that a failed read resumes from the last chunk,
+   * except for streams overwritten in the destination.
+   */
+  @Override
+  protected Optional<AutoCloseableIterator<AirbyteMessage>> getChunkedFullRefreshStream(final JdbcDatabase database,
+                                                                                        final ConfiguredAirbyteStream airbyteStream,
+                                                                                        final List<String> selectedDatabaseFields,
+                                                                                        final TableInfo<CommonField<Datatype>> table,
+                                                                                        final StateManager stateManager,
+                                                                                        final Instant emittedAt) {
+    final JsonNode config = database.getSourceConfig();
+    final long chunkSize = config != null && config.hasNonNull(FULL_REFRESH_CHUNK_SIZE_KEY) ? config.get(FULL_REFRESH_CHUNK_SIZE_KEY).asLong(0) : 0;
+    final Optional<String> chunkField = getIntegerPrimaryKey(airbyteStream, table);
+    if (chunkSize <= 0 || chunkField.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    // when overwriting, destinations replace the table with the records received up to the last state
+    // message, even if the attempt fails afterwards. checkpointing a chunk would then replace the table
+    // with part of it, so overwritten streams are always read entirely, without intermediate states.
+    final boolean checkpointChunks = airbyteStream.getDestinationSyncMode() != DestinationSyncMode.OVERWRITE;
+    final Optional<Long> resumeKey = checkpointChunks ? stateManager.getChunkCursor(pair, chunkField.get()).map(Long::parseLong) : Optional.empty();
+
+    return Optional.of(AutoCloseableIterators.lazyIterator(() -> {
+      final Optional<long[]> keyBounds = queryIntegerKeyBounds(database, table.getNameSpace(), table.getName(), chunkField.get());
+      if (keyBounds.isEmpty()) {
+        LOGGER.info("Primary key {} of table {} has non integer values, reading it by a single query.", chunkField.get(), table.getName());
+        return getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      }
+
+      final long firstKey = resumeKey.map(key -> Math.max(key, keyBounds.get()[0])).orElse(keyBounds.get()[0]);
+      resumeKey.ifPresent(key -> LOGGER.info("Resuming read of table {} from {} {}.", table.getName(), chunkField.get(), key));
+      return new KeyRangeChunkIterator(
+          (lowerBound, upperBound) -> getMessageIterator(
+              queryTableChunk(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), chunkField.get(), lowerBound, upperBound),
+              streamName,
+              namespace,
+              emittedAt.toEpochMilli()),
+          stateManager,
+          pair,
+          chunkField.get(),
+          firstKey,
+          Math.max(firstKey, keyBounds.get()[1]),
+          chunkSize,
+          checkpointChunks);
+    }));
+  }
+
+  private Optional<String> getIntegerPrimaryKey(final ConfiguredAirbyteStream airbyteStream, final TableInfo<CommonField<Datatype>> table) {
+    final List<List<String>> primaryKey = airbyteStream.getStream().getSourceDefinedPrimaryKey();
+    if (primaryKey == null || primaryKey.size() != 1 || primaryKey.get(0).size() != 1) {
+      return Optional.empty();
+    }
+    final String primaryKeyField = primaryKey.get(0).get(0);
+    return table.getFields().stream()
+        .filter(field -> field.getName().equals(primaryKeyField))
+        .filter(field -> isIntegerKeyType(field.getType()))
+        .map(CommonField::getName)
+        .findFirst();
+  }
+
+  /**
+   * Only integer columns can be read in chunks: the values of a decimal or floating point column
+   * between two consecutive integers would fall between chunks. Connectors whose datatype is not a
+   * {@link SQLType} mapped to a JDBC type should override it to allow chunking.
+   */
+  protected boolean isIntegerKeyType(final Datatype columnType) {
+    return columnType instanceof SQLType sqlType && INTEGER_KEY_TYPES.contains(sqlType.getVendorTypeNumber());
+  }
+
+  /**
+   * @return the minimum and maximum values of the field, 0 for both if the table is empty, or empty if
+   *         they are not integers.
+   */
+  private Optional<long[]> queryIntegerKeyBounds(final JdbcDatabase database,
+                                                 final String schemaName,
+                                                 final String tableName,
+                                                 final String keyField) {
+    try {
+      final String[] bounds = new String[2];
+      database.execute(connection -> {
+        final String quotedKeyField = sourceOperations.enquoteIdentifier(connection, keyField);
+        final String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s",
+            quotedKeyField,
+            quotedKeyField,
+            sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName));
+        try (final Statement statement = connection.createStatement();
+            final ResultSet resultSet = statement.executeQuery(sql)) {
+          if (resultSet.next()) {
+            bounds[0] = resultSet.getString(1);
+            bounds[1] = resultSet.getString(2);
+          }
+        }
+      });
+      if (bounds[0] == null || bounds[1] == null) {
+        return Optional.of(new long[] {0, 0});
+      }
+      return Optional.of(new long[] {Long.parseLong(bounds[0]), Long.parseLong(bounds[1])});
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableChunk(final JdbcDatabase database,
+                                                          final List<String> columnNames,
+                                                          final String schemaName,
+                                                          final String tableName,
+                                                          final String keyField,
+                                                          final long lowerBound,
+                                                          final Long upperBound) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              LOGGER.info("Preparing query for chunk of table: {}", tableName);
+              final String quotedKeyField = sourceOperations.enquoteIdentifier(connection, keyField);
+              final String sql = String.format("SELECT %s FROM %s WHERE %s >= ?%s",
+                  sourceOperations.enquoteIdentifierList(connection, columnNames),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  quotedKeyField,
+                  upperBound == null ? "" : String.format(" AND %s < ?", quotedKeyField));
+
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              preparedStatement.setLong(1, lowerBound);
+              if (upperBound != null) {
+                preparedStatement.setLong(2, upperBound);
+              }
+              LOGGER.info("Executing query for table {} from {} {} to {}", tableName, keyField, lowerBound, upperBound);
+              return preparedStatement;
+            },
+            sourceOperations.getRowToJsonMapper());
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Override
   public JsonSchemaType getType(final Datatype columnType) {
     return sourceOperations.getJsonType(columnType);
@@ -265,18 +471,19 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
         final Stream<JsonNode> stream = database.unsafeQuery(
             connection -> {
               LOGGER.info("Preparing query for table: {}", tableName);
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?%s",
                   sourceOperations.enquoteIdentifierList(connection, columnNames),
                   sourceOperations
                       .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  sourceOperations.enquoteIdentifier(connection, cursorField));
+                  sourceOperations.enquoteIdentifier(connection, cursorField),
+                  getIncrementalOrderByClause(database, connection, cursorField));
 
               final PreparedStatement preparedStatement = connection.prepareStatement(sql);
               sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
-            sourceOperations::rowToJson);
+            sourceOperations.getRowToJsonMapper());
         return AutoCloseableIterators.fromStream(stream);
       } catch (final SQLException e) {
         throw new RuntimeException(e);
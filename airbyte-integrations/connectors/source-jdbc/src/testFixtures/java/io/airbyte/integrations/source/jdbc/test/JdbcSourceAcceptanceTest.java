@@ -6,6 +6,7 @@ package io.airbyte.integrations.source.jdbc.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -98,6 +99,7 @@ public abstract class JdbcSourceAcceptanceTest {
   public static String COLUMN_CLAUSE_WITH_PK = "id INTEGER, name VARCHAR(200), updated_at DATE";
   public static String COLUMN_CLAUSE_WITHOUT_PK = "id INTEGER, name VARCHAR(200), updated_at DATE";
   public static String COLUMN_CLAUSE_WITH_COMPOSITE_PK = "first_name VARCHAR(200), last_name VARCHAR(200), updated_at DATE";
+  public static String COLUMN_CLAUSE_WITH_DECIMAL_PK = "id DECIMAL(10, 1), name VARCHAR(200)";
 
   public JsonNode config;
   public JdbcDatabase database;
@@ -363,6 +365,90 @@ public abstract class JdbcSourceAcceptanceTest {
     assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
   }
 
+  @Test
+  void testReadSuccessInChunks() throws Exception {
+    final JsonNode chunkedReadConfig = Jsons.clone(config);
+    ((ObjectNode) chunkedReadConfig).put(AbstractJdbcSource.FULL_REFRESH_CHUNK_SIZE_KEY, 2);
+    final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(getDefaultNamespace());
+    catalog.getStreams().forEach(airbyteStream -> airbyteStream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(chunkedReadConfig, catalog, null));
+
+    final List<AirbyteMessage> actualRecordMessages = actualMessages.stream().filter(m -> m.getType() == Type.RECORD).collect(Collectors.toList());
+    setEmittedAtToNull(actualRecordMessages);
+    final List<AirbyteMessage> expectedMessages = getTestMessages();
+    assertThat(expectedMessages, Matchers.containsInAnyOrder(actualRecordMessages.toArray()));
+    assertThat(actualRecordMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
+
+    // a checkpoint after the chunk of ids 1 and 2, then a last state once the stream is read.
+    final List<DbStreamState> streamStates = actualMessages.stream()
+        .filter(m -> m.getType() == Type.STATE)
+        .map(m -> Jsons.object(m.getState().getData(), DbState.class).getStreams().get(0))
+        .collect(Collectors.toList());
+    assertEquals(2, streamStates.size());
+    assertEquals(COL_ID, streamStates.get(0).getChunkField());
+    assertEquals("3", streamStates.get(0).getChunkCursor());
+    assertNull(streamStates.get(1).getChunkCursor());
+  }
+
+  @Test
+  void testReadInChunksWithoutCheckpointsWhenOverwriting() throws Exception {
+    final JsonNode chunkedReadConfig = Jsons.clone(config);
+    ((ObjectNode) chunkedReadConfig).put(AbstractJdbcSource.FULL_REFRESH_CHUNK_SIZE_KEY, 1);
+    final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(getDefaultNamespace());
+    catalog.getStreams().forEach(airbyteStream -> airbyteStream.setDestinationSyncMode(DestinationSyncMode.OVERWRITE));
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(chunkedReadConfig, catalog, null));
+
+    final List<AirbyteMessage> actualRecordMessages = actualMessages.stream().filter(m -> m.getType() == Type.RECORD).collect(Collectors.toList());
+    setEmittedAtToNull(actualRecordMessages);
+    assertThat(actualRecordMessages, Matchers.containsInAnyOrder(getTestMessages().toArray()));
+
+    // the destination would commit the records received before a checkpoint even if the read failed
+    // afterwards, so the only state is the last one, once the whole stream is read.
+    final List<AirbyteMessage> stateMessages = actualMessages.stream().filter(m -> m.getType() == Type.STATE).collect(Collectors.toList());
+    assertEquals(1, stateMessages.size());
+    assertEquals(actualMessages.get(actualMessages.size() - 1), stateMessages.get(0));
+    assertNull(Jsons.object(stateMessages.get(0).getState().getData(), DbState.class).getStreams().get(0).getChunkCursor());
+  }
+
+  @Test
+  void testReadNonIntegerPrimaryKeyInOneQuery() throws Exception {
+    final String decimalPkTableName = TABLE_NAME + "_decimal_pk";
+    database.execute(connection -> {
+      connection.createStatement().execute(
+          createTableQuery(getFullyQualifiedTableName(decimalPkTableName), COLUMN_CLAUSE_WITH_DECIMAL_PK,
+              primaryKeyClause(Collections.singletonList("id"))));
+      connection.createStatement().execute(
+          String.format("INSERT INTO %s(id, name) VALUES (1, 'picard')",
+              getFullyQualifiedTableName(decimalPkTableName)));
+      connection.createStatement().execute(
+          String.format("INSERT INTO %s(id, name) VALUES (1.5, 'crusher')",
+              getFullyQualifiedTableName(decimalPkTableName)));
+      connection.createStatement().execute(
+          String.format("INSERT INTO %s(id, name) VALUES (2, 'vash')",
+              getFullyQualifiedTableName(decimalPkTableName)));
+    });
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createConfiguredAirbyteStream(
+            decimalPkTableName,
+            getDefaultNamespace(),
+            Field.of(COL_ID, JsonSchemaType.NUMBER),
+            Field.of(COL_NAME, JsonSchemaType.STRING))
+            .withDestinationSyncMode(DestinationSyncMode.APPEND)));
+    catalog.getStreams().get(0).getStream().setSourceDefinedPrimaryKey(List.of(List.of(COL_ID)));
+    final JsonNode chunkedReadConfig = Jsons.clone(config);
+    ((ObjectNode) chunkedReadConfig).put(AbstractJdbcSource.FULL_REFRESH_CHUNK_SIZE_KEY, 1);
+
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(chunkedReadConfig, catalog, null));
+
+    // a chunk of ids from 1 to 2 excluded would skip the record with id 1.5.
+    final Set<String> actualNames = actualMessages.stream()
+        .filter(m -> m.getType() == Type.RECORD)
+        .map(m -> m.getRecord().getData().get(COL_NAME).asText())
+        .collect(Collectors.toSet());
+    assertEquals(Set.of("picard", "crusher", "vash"), actualNames);
+    assertTrue(actualMessages.stream().noneMatch(m -> m.getType() == Type.STATE));
+  }
+
   @Test
   void testReadOneColumn() throws Exception {
     final ConfiguredAirbyteCatalog catalog = CatalogHelpers
@@ -388,6 +474,17 @@ public abstract class JdbcSourceAcceptanceTest {
 
   @Test
   void testReadMultipleTables() throws Exception {
+    assertReadMultipleTables(config);
+  }
+
+  @Test
+  void testReadMultipleTablesConcurrently() throws Exception {
+    final JsonNode concurrentReadConfig = Jsons.clone(config);
+    ((ObjectNode) concurrentReadConfig).put(AbstractJdbcSource.MAX_CONCURRENT_TABLE_READS_KEY, 3);
+    assertReadMultipleTables(concurrentReadConfig);
+  }
+
+  private void assertReadMultipleTables(final JsonNode sourceConfig) throws Exception {
     final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(
         getDefaultNamespace());
     final List<AirbyteMessage> expectedMessages = new ArrayList<>(getTestMessages());
@@ -431,7 +528,7 @@ public abstract class JdbcSourceAcceptanceTest {
     }
 
     final List<AirbyteMessage> actualMessages = MoreIterators
-        .toList(source.read(config, catalog, null));
+        .toList(source.read(sourceConfig, catalog, null));
 
     setEmittedAtToNull(actualMessages);
 
@@ -561,6 +658,37 @@ public abstract class JdbcSourceAcceptanceTest {
         Lists.newArrayList(getTestMessages()));
   }
 
+  @Test
+  void testIncrementalWithIntermediateStates() throws Exception {
+    final JsonNode checkpointingConfig = Jsons.clone(config);
+    ((ObjectNode) checkpointingConfig).put(AbstractJdbcSource.INCREMENTAL_CHECKPOINT_RECORDS_KEY, 1);
+    final ConfiguredAirbyteStream airbyteStream = getConfiguredCatalogWithOneStream(getDefaultNamespace()).getStreams().get(0);
+    airbyteStream.setSyncMode(SyncMode.INCREMENTAL);
+    airbyteStream.setCursorField(Lists.newArrayList(COL_ID));
+    airbyteStream.setDestinationSyncMode(DestinationSyncMode.APPEND);
+    final DbState state = new DbState()
+        .withStreams(Lists.newArrayList(new DbStreamState()
+            .withStreamName(streamName)
+            .withStreamNamespace(getDefaultNamespace())
+            .withCursorField(ImmutableList.of(COL_ID))
+            .withCursor("0")));
+
+    final List<AirbyteMessage> actualMessages = MoreIterators
+        .toList(source.read(checkpointingConfig, new ConfiguredAirbyteCatalog().withStreams(List.of(airbyteStream)), Jsons.jsonNode(state)));
+    setEmittedAtToNull(actualMessages);
+
+    // records are read ordered by cursor, with a state before each record whose cursor is greater
+    // than the previous ones, then a last state once the stream is read.
+    final List<AirbyteMessage> expectedRecordMessages = getTestMessages();
+    assertEquals(6, actualMessages.size());
+    assertEquals(expectedRecordMessages.get(0), actualMessages.get(0));
+    assertEquals(Type.STATE, actualMessages.get(1).getType());
+    assertEquals(expectedRecordMessages.get(1), actualMessages.get(2));
+    assertEquals(Type.STATE, actualMessages.get(3).getType());
+    assertEquals(expectedRecordMessages.get(2), actualMessages.get(4));
+    assertEquals("3", Jsons.object(actualMessages.get(5).getState().getData(), DbState.class).getStreams().get(0).getCursor());
+  }
+
   @Test
   void testReadOneTableIncrementallyTwice() throws Exception {
     final String namespace = getDefaultNamespace();
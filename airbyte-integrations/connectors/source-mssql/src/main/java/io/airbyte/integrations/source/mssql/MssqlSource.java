@@ -104,11 +104,12 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
               List<String> newColumnNames = getWrappedColumn(database,
                   columnNames, schemaName, tableName, identifierQuoteString);
 
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?%s",
                   String.join(",", newColumnNames),
                   sourceOperations
                       .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  sourceOperations.enquoteIdentifier(connection, cursorField));
+                  sourceOperations.enquoteIdentifier(connection, cursorField),
+                  getIncrementalOrderByClause(database, connection, cursorField));
               LOGGER.info("Prepared SQL query for queryTableIncremental is: " + sql);
 
               final PreparedStatement preparedStatement = connection.prepareStatement(sql);
@@ -116,7 +117,7 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
-            sourceOperations::rowToJson);
+            sourceOperations.getRowToJsonMapper());
         return AutoCloseableIterators.fromStream(stream);
       } catch (final SQLException e) {
         throw new RuntimeException(e);
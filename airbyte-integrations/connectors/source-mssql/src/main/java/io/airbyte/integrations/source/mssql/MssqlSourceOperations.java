@@ -14,11 +14,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.sqlserver.jdbc.Geography;
 import com.microsoft.sqlserver.jdbc.Geometry;
-import com.microsoft.sqlserver.jdbc.SQLServerResultSetMetaData;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.nio.charset.Charset;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,54 +28,24 @@ public class MssqlSourceOperations extends JdbcSourceOperations {
   private static final Logger LOGGER = LoggerFactory.getLogger(MssqlSourceOperations.class);
 
   /**
-   * The method is used to set json value by type. Need to be overridden as MSSQL has some its own
-   * specific types (ex. Geometry, Geography, Hierarchyid, etc)
+   * The method is used to resolve how to read a column by type. Need to be overridden as MSSQL has
+   * some its own specific types (ex. Geometry, Geography, Hierarchyid, etc)
    *
    * @throws SQLException
    */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json)
-      throws SQLException {
-
-    final SQLServerResultSetMetaData metadata = (SQLServerResultSetMetaData) resultSet
-        .getMetaData();
-    final String columnName = metadata.getColumnName(colIndex);
-    final String columnTypeName = metadata.getColumnTypeName(colIndex);
-    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
+  protected ColumnReader getColumnReader(final ResultSetMetaData metaData, final int colIndex) throws SQLException {
+    final String columnName = metaData.getColumnName(colIndex);
+    final String columnTypeName = metaData.getColumnTypeName(colIndex);
 
     if (columnTypeName.equalsIgnoreCase("time")) {
-      putString(json, columnName, resultSet, colIndex);
+      return (resultSet, json) -> putString(json, columnName, resultSet, colIndex);
     } else if (columnTypeName.equalsIgnoreCase("geometry")) {
-      putGeometry(json, columnName, resultSet, colIndex);
+      return (resultSet, json) -> putGeometry(json, columnName, resultSet, colIndex);
     } else if (columnTypeName.equalsIgnoreCase("geography")) {
-      putGeography(json, columnName, resultSet, colIndex);
+      return (resultSet, json) -> putGeography(json, columnName, resultSet, colIndex);
     } else {
-      putValue(columnType, resultSet, columnName, colIndex, json);
-    }
-  }
-
-  private void putValue(final JDBCType columnType,
-                        final ResultSet resultSet,
-                        final String columnName,
-                        final int colIndex,
-                        final ObjectNode json)
-      throws SQLException {
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet,
-          colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
+      return super.getColumnReader(metaData, colIndex);
     }
   }
 
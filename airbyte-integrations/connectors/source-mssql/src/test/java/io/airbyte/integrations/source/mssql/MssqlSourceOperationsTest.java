@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.mssql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.microsoft.sqlserver.jdbc.Geography;
+import com.microsoft.sqlserver.jdbc.Geometry;
+import io.airbyte.commons.json.Jsons;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.jupiter.api.Test;
+
+class MssqlSourceOperationsTest {
+
+  private static final String GEOMETRY = "POINT (3 40 5 6)";
+  private static final String GEOGRAPHY = "LINESTRING (-122.36 47.656, -122.343 47.656)";
+  private static final JsonNode EXPECTED_ROW = Jsons.jsonNode(ImmutableMap.of(
+      "id", 1,
+      "start_time", "13:00:01.1234567",
+      "location", "POINT(3 40 5 6)",
+      "route", "LINESTRING(-122.36 47.656, -122.343 47.656)"));
+
+  private final MssqlSourceOperations sourceOperations = new MssqlSourceOperations();
+
+  @Test
+  void testRowToJson() throws SQLException {
+    assertEquals(EXPECTED_ROW, sourceOperations.rowToJson(mockResultSet()));
+  }
+
+  @Test
+  void testRowToJsonMapper() throws SQLException {
+    assertEquals(EXPECTED_ROW, sourceOperations.getRowToJsonMapper().apply(mockResultSet()));
+  }
+
+  private static ResultSet mockResultSet() throws SQLException {
+    final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(4);
+    mockColumn(metaData, 1, "id", Types.INTEGER, "int");
+    mockColumn(metaData, 2, "start_time", Types.TIME, "time");
+    mockColumn(metaData, 3, "location", Types.VARBINARY, "geometry");
+    mockColumn(metaData, 4, "route", Types.VARBINARY, "geography");
+
+    final byte[] geometry = Geometry.STGeomFromText(GEOMETRY, 0).serialize();
+    final byte[] geography = Geography.STGeomFromText(GEOGRAPHY, 4326).serialize();
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(resultSet.getObject(1)).thenReturn(1);
+    when(resultSet.getInt(1)).thenReturn(1);
+    when(resultSet.getObject(2)).thenReturn("13:00:01.1234567");
+    when(resultSet.getString(2)).thenReturn("13:00:01.1234567");
+    when(resultSet.getObject(3)).thenReturn(geometry);
+    when(resultSet.getBytes(3)).thenReturn(geometry);
+    when(resultSet.getObject(4)).thenReturn(geography);
+    when(resultSet.getBytes(4)).thenReturn(geography);
+    return resultSet;
+  }
+
+  private static void mockColumn(final ResultSetMetaData metaData, final int index, final String name, final int type, final String typeName)
+      throws SQLException {
+    when(metaData.getColumnName(index)).thenReturn(name);
+    when(metaData.getColumnType(index)).thenReturn(type);
+    when(metaData.getColumnTypeName(index)).thenReturn(typeName);
+  }
+
+}
@@ -4,12 +4,12 @@
 
 package io.airbyte.integrations.source.mysql;
 
-import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
+import io.airbyte.db.jdbc.AdaptiveJdbcStreamingQueryConfiguration;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
-public class MySqlJdbcStreamingQueryConfiguration implements JdbcStreamingQueryConfiguration {
+public class MySqlJdbcStreamingQueryConfiguration extends AdaptiveJdbcStreamingQueryConfiguration {
 
   @Override
   public void accept(final Connection connection, final PreparedStatement preparedStatement) throws SQLException {
@@ -20,9 +20,9 @@ public class MySqlJdbcStreamingQueryConfiguration implements JdbcStreamingQueryC
     // performance.
     // e.g. conn = DriverManager.getConnection("jdbc:mysql://localhost/?useCursorFetch=true", "user",
     // "s3cr3t");
-    // We set userCursorFetch in MySqlSource.
-    connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
+    // We set userCursorFetch in MySqlSource. The driver reads the fetch size of each fetch from the
+    // statement, which the adaptive fetch size is also set on.
+    super.accept(connection, preparedStatement);
     // If for some reason, you cannot set useCursorFetch in the connection, fall back on this
     // implementation below. It fetches records one at a time, which while inefficient, at least does
     // not risk OOM.
@@ -245,6 +245,12 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
     }
   }
 
+  @Override
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    // with cdc, incremental streams are all read by a single debezium iterator.
+    return isCdc(config) ? 1 : super.getMaxConcurrentTableReads(config);
+  }
+
   @VisibleForTesting
   static boolean isCdc(final JsonNode config) {
     final boolean isCdc = config.hasNonNull("replication_method")
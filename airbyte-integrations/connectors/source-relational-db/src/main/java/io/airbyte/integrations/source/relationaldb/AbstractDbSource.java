@@ -36,6 +36,7 @@ import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.SyncMode;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,6 +62,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
 
+  private static final Duration INCREMENTAL_CHECKPOINT_INTERVAL = Duration.ofMinutes(5);
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try (final Database database = createDatabaseInternal(config)) {
@@ -119,14 +122,52 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final int maxConcurrentTableReads = getMaxConcurrentTableReads(config);
+    final AutoCloseableIterator<AirbyteMessage> messageIterator;
+    if (maxConcurrentTableReads > 1) {
+      LOGGER.info("Reading up to {} tables concurrently.", maxConcurrentTableReads);
+      messageIterator = AutoCloseableIterators.concatConcurrently(iteratorList, maxConcurrentTableReads);
+    } else {
+      messageIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+    }
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(database::close);
           LOGGER.info("Closed database connection pool.");
         });
   }
 
+  /**
+   * Number of tables that {@link #read} reads at the same time, each on its own thread and
+   * connection. Records of the different tables are interleaved in the output, while the records and
+   * state messages of each table keep their order, and a state message is always emitted after the
+   * records it accounts for.
+   *
+   * @param config database implementation-specific configuration.
+   * @return maximum number of tables read concurrently. 1, the default, reads tables one after the
+   *         other.
+   */
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    return 1;
+  }
+
+  /**
+   * Number of records after which an incremental stream emits an intermediate state message, so that
+   * a failed read resumes close to where it stopped rather than from the previous sync's cursor. An
+   * intermediate state is also emitted every few minutes when records are read slowly. Only applies
+   * to streams read from a saved cursor, and requires {@link #queryTableIncremental} to return the
+   * records ordered by cursor when it is positive.
+   *
+   * @param config database implementation-specific configuration.
+   * @return number of records between intermediate states. 0, the default, only emits a state once
+   *         the stream is read.
+   */
+  protected long getIncrementalCheckpointRecords(final JsonNode config) {
+    return 0;
+  }
+
   protected List<TableInfo<CommonField<DataType>>> discoverWithoutSystemTables(final Database database) throws Exception {
     final Set<String> systemNameSpaces = getExcludedInternalNameSpaces();
     final List<TableInfo<CommonField<DataType>>> discoveredTables = discoverInternal(database);
@@ -217,10 +258,14 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
       final Optional<String> cursorOptional = stateManager.getCursor(pair);
 
       final AutoCloseableIterator<AirbyteMessage> airbyteMessageIterator;
+      final long checkpointRecords;
       if (cursorOptional.isPresent()) {
+        checkpointRecords = getIncrementalCheckpointRecords(database.getSourceConfig());
         airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt);
       } else {
         // if no cursor is present then this is the first read for is the same as doing a full refresh read.
+        // its records are not ordered by cursor, so there are no intermediate states.
+        checkpointRecords = 0;
         airbyteMessageIterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
       }
 
@@ -233,10 +278,13 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           pair,
           cursorField,
           cursorOptional.orElse(null),
-          cursorType),
+          cursorType,
+          checkpointRecords,
+          INCREMENTAL_CHECKPOINT_INTERVAL),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = getChunkedFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt)
+          .orElseGet(() -> getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt));
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -283,6 +331,23 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * Reads a full refresh stream in chunks that are checkpointed in the state, so that a failed read
+   * can resume from the last chunk read (see {@link KeyRangeChunkIterator}). Not supported by
+   * default.
+   *
+   * @return the stream messages, including state messages, or empty if the stream cannot be read in
+   *         chunks, in which case it is read by {@link #getFullRefreshStream}.
+   */
+  protected Optional<AutoCloseableIterator<AirbyteMessage>> getChunkedFullRefreshStream(final Database database,
+                                                                                        final ConfiguredAirbyteStream airbyteStream,
+                                                                                        final List<String> selectedDatabaseFields,
+                                                                                        final TableInfo<CommonField<DataType>> table,
+                                                                                        final StateManager stateManager,
+                                                                                        final Instant emittedAt) {
+    return Optional.empty();
+  }
+
   protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
                                                                        final String streamName,
                                                                        final String namespace,
@@ -468,7 +533,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
   /**
    * Read incremental data from a table. Incremental read should returns only records where cursor
-   * column value is bigger than cursor.
+   * column value is bigger than cursor, ordered by cursor if
+   * {@link #getIncrementalCheckpointRecords} is positive.
    *
    * @param database source database
    * @param columnNames interested column names
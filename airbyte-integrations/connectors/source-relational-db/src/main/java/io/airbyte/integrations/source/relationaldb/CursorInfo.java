@@ -14,6 +14,9 @@ public class CursorInfo {
   private final String cursorField;
   private String cursor;
 
+  private String chunkField;
+  private String chunkCursor;
+
   public CursorInfo(final String originalCursorField,
                     final String originalCursor,
                     final String cursorField,
@@ -46,6 +49,21 @@ public class CursorInfo {
     return this;
   }
 
+  public String getChunkField() {
+    return chunkField;
+  }
+
+  public String getChunkCursor() {
+    return chunkCursor;
+  }
+
+  @SuppressWarnings("UnusedReturnValue")
+  public CursorInfo setChunk(final String chunkField, final String chunkCursor) {
+    this.chunkField = chunkField;
+    this.chunkCursor = chunkCursor;
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -57,12 +75,13 @@ public class CursorInfo {
     final CursorInfo that = (CursorInfo) o;
     return Objects.equals(originalCursorField, that.originalCursorField) && Objects
         .equals(originalCursor, that.originalCursor)
-        && Objects.equals(cursorField, that.cursorField) && Objects.equals(cursor, that.cursor);
+        && Objects.equals(cursorField, that.cursorField) && Objects.equals(cursor, that.cursor)
+        && Objects.equals(chunkField, that.chunkField) && Objects.equals(chunkCursor, that.chunkCursor);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(originalCursorField, originalCursor, cursorField, cursor);
+    return Objects.hash(originalCursorField, originalCursor, cursorField, cursor, chunkField, chunkCursor);
   }
 
   @Override
@@ -72,6 +91,8 @@ public class CursorInfo {
         ", originalCursor='" + originalCursor + '\'' +
         ", cursorField='" + cursorField + '\'' +
         ", cursor='" + cursor + '\'' +
+        ", chunkField='" + chunkField + '\'' +
+        ", chunkCursor='" + chunkCursor + '\'' +
         '}';
   }
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a full refresh stream in chunks, each covering a range of consecutive values of an integer
+ * field (usually the primary key of the table), one after the other. Unless checkpoints are
+ * disabled, a state message is emitted after each chunk, holding the value from which to resume if
+ * the read fails. A last one clears it once the whole stream is read.
+ *
+ * <p>
+ * The last chunk has no upper bound, so that records added while the stream is read are not missed.
+ */
+public class KeyRangeChunkIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KeyRangeChunkIterator.class);
+
+  @FunctionalInterface
+  public interface ChunkReader {
+
+    /**
+     * @param lowerBound inclusive lower bound of the chunk field.
+     * @param upperBound exclusive upper bound of the chunk field, which is the lower bound of the next
+     *        chunk, or null for the last chunk.
+     * @return messages of the records in the range.
+     */
+    AutoCloseableIterator<AirbyteMessage> read(long lowerBound, Long upperBound);
+
+  }
+
+  private final ChunkReader chunkReader;
+  private final StateManager stateManager;
+  private final AirbyteStreamNameNamespacePair pair;
+  private final String chunkField;
+  private final long lastKey;
+  private final long chunkSize;
+  private final boolean checkpointChunks;
+
+  private long nextLowerBound;
+  private AutoCloseableIterator<AirbyteMessage> currentChunk;
+  private boolean isReadingLastChunk;
+  private boolean hasEmittedFinalState;
+
+  public KeyRangeChunkIterator(final ChunkReader chunkReader,
+                               final StateManager stateManager,
+                               final AirbyteStreamNameNamespacePair pair,
+                               final String chunkField,
+                               final long firstKey,
+                               final long lastKey,
+                               final long chunkSize) {
+    this(chunkReader, stateManager, pair, chunkField, firstKey, lastKey, chunkSize, true);
+  }
+
+  /**
+   * @param firstKey lower bound of the first chunk.
+   * @param lastKey greatest value of the chunk field when the read starts. the chunk that reaches it
+   *        is the last one.
+   * @param chunkSize number of values of the chunk field covered by each chunk.
+   * @param checkpointChunks whether to emit a state message after each chunk. Must be false when the
+   *        destination overwrites the stream: it commits the records received before a failure, so a
+   *        checkpoint would let a failed attempt replace the whole table with part of it.
+   */
+  public KeyRangeChunkIterator(final ChunkReader chunkReader,
+                               final StateManager stateManager,
+                               final AirbyteStreamNameNamespacePair pair,
+                               final String chunkField,
+                               final long firstKey,
+                               final long lastKey,
+                               final long chunkSize,
+                               final boolean checkpointChunks) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+    this.chunkReader = chunkReader;
+    this.stateManager = stateManager;
+    this.pair = pair;
+    this.chunkField = chunkField;
+    this.lastKey = lastKey;
+    this.chunkSize = chunkSize;
+    this.checkpointChunks = checkpointChunks;
+    this.nextLowerBound = firstKey;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (true) {
+      if (currentChunk != null) {
+        if (currentChunk.hasNext()) {
+          return currentChunk.next();
+        }
+        closeCurrentChunk();
+        if (!isReadingLastChunk && checkpointChunks) {
+          LOGGER.info("Read the records of stream {} with {} lower than {}.", pair, chunkField, nextLowerBound);
+          return toMessage(stateManager.updateChunkAndEmit(pair, chunkField, String.valueOf(nextLowerBound)));
+        }
+      } else if (!isReadingLastChunk) {
+        startNextChunk();
+      } else if (!hasEmittedFinalState) {
+        hasEmittedFinalState = true;
+        return toMessage(stateManager.updateChunkAndEmit(pair, null, null));
+      } else {
+        return endOfData();
+      }
+    }
+  }
+
+  private void startNextChunk() {
+    final long lowerBound = nextLowerBound;
+    Long upperBound;
+    try {
+      upperBound = Math.addExact(lowerBound, chunkSize);
+    } catch (final ArithmeticException e) {
+      upperBound = null;
+    }
+
+    if (upperBound == null || upperBound > lastKey) {
+      isReadingLastChunk = true;
+      currentChunk = chunkReader.read(lowerBound, null);
+    } else {
+      nextLowerBound = upperBound;
+      currentChunk = chunkReader.read(lowerBound, upperBound);
+    }
+  }
+
+  private void closeCurrentChunk() {
+    try {
+      currentChunk.close();
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+    currentChunk = null;
+  }
+
+  private static AirbyteMessage toMessage(final AirbyteStateMessage stateMessage) {
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (currentChunk != null) {
+      currentChunk.close();
+    }
+  }
+
+}
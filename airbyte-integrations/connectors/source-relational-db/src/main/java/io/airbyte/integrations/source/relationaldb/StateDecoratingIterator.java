@@ -11,10 +11,22 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Iterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Emits a state message holding the greatest cursor value of the records once they are all read.
+ *
+ * <p>
+ * If the records are ordered by cursor, it can also emit intermediate state messages, so that a
+ * failed read resumes close to where it stopped. An intermediate state is emitted once
+ * {@code checkpointRecords} records were read or {@code checkpointInterval} elapsed since the last
+ * one, right before the first record whose cursor is strictly greater than the ones read so far:
+ * records are ordered, so there are none left with a cursor lower than or equal to the state.
+ */
 public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements Iterator<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StateDecoratingIterator.class);
@@ -24,32 +36,75 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final AirbyteStreamNameNamespacePair pair;
   private final String cursorField;
   private final JsonSchemaPrimitive cursorType;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
 
   private String maxCursor;
   private boolean hasEmittedState;
 
+  private String lastCheckpointCursor;
+  private long recordsSinceCheckpoint;
+  private Instant lastCheckpointTime;
+  private AirbyteMessage pendingMessage;
+
   public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
                                  final StateManager stateManager,
                                  final AirbyteStreamNameNamespacePair pair,
                                  final String cursorField,
                                  final String initialCursor,
                                  final JsonSchemaPrimitive cursorType) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, 0, null);
+  }
+
+  /**
+   * @param messageIterator records of the stream. they must be ordered by cursor if
+   *        {@code checkpointRecords} is positive.
+   * @param checkpointRecords number of records after which an intermediate state is emitted. 0
+   *        disables intermediate states.
+   * @param checkpointInterval time after which an intermediate state is emitted, even if fewer than
+   *        {@code checkpointRecords} records were read. if null, only the number of records is
+   *        considered.
+   */
+  public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
+                                 final StateManager stateManager,
+                                 final AirbyteStreamNameNamespacePair pair,
+                                 final String cursorField,
+                                 final String initialCursor,
+                                 final JsonSchemaPrimitive cursorType,
+                                 final long checkpointRecords,
+                                 final Duration checkpointInterval) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
     this.cursorField = cursorField;
     this.cursorType = cursorType;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
     this.maxCursor = initialCursor;
+    this.lastCheckpointCursor = initialCursor;
+    this.lastCheckpointTime = Instant.now();
     stateManager.setIsCdc(false);
   }
 
   @Override
   protected AirbyteMessage computeNext() {
-    if (messageIterator.hasNext()) {
+    if (pendingMessage != null) {
+      final AirbyteMessage message = pendingMessage;
+      pendingMessage = null;
+      return message;
+    } else if (messageIterator.hasNext()) {
       final AirbyteMessage message = messageIterator.next();
+      recordsSinceCheckpoint++;
       if (message.getRecord().getData().hasNonNull(cursorField)) {
         final String cursorCandidate = message.getRecord().getData().get(cursorField).asText();
         if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
+          if (isCheckpointDue()) {
+            // the record is returned after the state, which does not account for it.
+            pendingMessage = message;
+            final AirbyteMessage stateMessage = emitIntermediateState();
+            maxCursor = cursorCandidate;
+            return stateMessage;
+          }
           maxCursor = cursorCandidate;
         }
       }
@@ -74,4 +129,26 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     }
   }
 
+  /**
+   * Only called before a record with a cursor strictly greater than {@code maxCursor}, so all the
+   * records up to {@code maxCursor} were returned.
+   */
+  private boolean isCheckpointDue() {
+    if (checkpointRecords <= 0 || maxCursor == null || IncrementalUtils.compareCursors(lastCheckpointCursor, maxCursor, cursorType) >= 0) {
+      return false;
+    }
+    // the current record does not count, as it is returned after the state.
+    return recordsSinceCheckpoint - 1 >= checkpointRecords
+        || (checkpointInterval != null && Duration.between(lastCheckpointTime, Instant.now()).compareTo(checkpointInterval) >= 0);
+  }
+
+  private AirbyteMessage emitIntermediateState() {
+    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+    LOGGER.info("Checkpointing stream {} at cursor {} after {} records.", pair, maxCursor, recordsSinceCheckpoint - 1);
+    lastCheckpointCursor = maxCursor;
+    lastCheckpointTime = Instant.now();
+    recordsSinceCheckpoint = 1;
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
 }
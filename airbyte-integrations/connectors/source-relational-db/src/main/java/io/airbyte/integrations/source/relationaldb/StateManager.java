@@ -128,26 +128,29 @@ public class StateManager {
       cursor = null;
     }
 
-    return new CursorInfo(originalCursorField, originalCursor, cursorField, cursor);
+    return new CursorInfo(originalCursorField, originalCursor, cursorField, cursor)
+        .setChunk(stateOptional.map(DbStreamState::getChunkField).orElse(null), stateOptional.map(DbStreamState::getChunkCursor).orElse(null));
   }
 
   private Optional<CursorInfo> getCursorInfo(final AirbyteStreamNameNamespacePair pair) {
     return Optional.ofNullable(pairToCursorInfo.get(pair));
   }
 
-  public Optional<String> getOriginalCursorField(final AirbyteStreamNameNamespacePair pair) {
+  // the getters are synchronized like updateAndEmit because streams can be read concurrently, each
+  // updating its cursor from its own thread.
+  synchronized public Optional<String> getOriginalCursorField(final AirbyteStreamNameNamespacePair pair) {
     return getCursorInfo(pair).map(CursorInfo::getOriginalCursorField);
   }
 
-  public Optional<String> getOriginalCursor(final AirbyteStreamNameNamespacePair pair) {
+  synchronized public Optional<String> getOriginalCursor(final AirbyteStreamNameNamespacePair pair) {
     return getCursorInfo(pair).map(CursorInfo::getOriginalCursor);
   }
 
-  public Optional<String> getCursorField(final AirbyteStreamNameNamespacePair pair) {
+  synchronized public Optional<String> getCursorField(final AirbyteStreamNameNamespacePair pair) {
     return getCursorInfo(pair).map(CursorInfo::getCursorField);
   }
 
-  public Optional<String> getCursor(final AirbyteStreamNameNamespacePair pair) {
+  synchronized public Optional<String> getCursor(final AirbyteStreamNameNamespacePair pair) {
     return getCursorInfo(pair).map(CursorInfo::getCursor);
   }
 
@@ -162,6 +165,34 @@ public class StateManager {
     return toState();
   }
 
+  /**
+   * @return value of the chunk field from which to resume reading the stream in chunks, if its
+   *         previous read was interrupted while reading chunks of the same field.
+   */
+  synchronized public Optional<String> getChunkCursor(final AirbyteStreamNameNamespacePair pair, final String chunkField) {
+    return getCursorInfo(pair)
+        .filter(cursorInfo -> chunkField.equals(cursorInfo.getChunkField()))
+        .map(CursorInfo::getChunkCursor);
+  }
+
+  /**
+   * Records the progress of a stream read in chunks, then emits the state. Unlike the cursor, this
+   * is updated in cdc mode too.
+   *
+   * @param chunkField field the stream is split on, or null once the whole stream is read.
+   * @param chunkCursor value of the chunk field from which to resume reading, or null once the whole
+   *        stream is read.
+   */
+  synchronized public AirbyteStateMessage updateChunkAndEmit(final AirbyteStreamNameNamespacePair pair,
+                                                             final String chunkField,
+                                                             final String chunkCursor) {
+    final Optional<CursorInfo> cursorInfo = getCursorInfo(pair);
+    Preconditions.checkState(cursorInfo.isPresent(), "Could not find cursor information for stream: " + pair);
+    cursorInfo.get().setChunk(chunkField, chunkCursor);
+
+    return toState();
+  }
+
   public void setIsCdc(final boolean isCdc) {
     if (this.isCdc == null) {
       this.isCdc = isCdc;
@@ -174,7 +205,7 @@ public class StateManager {
     return cdcStateManager;
   }
 
-  public AirbyteStateMessage emit() {
+  synchronized public AirbyteStateMessage emit() {
     return toState();
   }
 
@@ -187,7 +218,9 @@ public class StateManager {
                 .withStreamName(e.getKey().getName())
                 .withStreamNamespace(e.getKey().getNamespace())
                 .withCursorField(e.getValue().getCursorField() == null ? Collections.emptyList() : Lists.newArrayList(e.getValue().getCursorField()))
-                .withCursor(e.getValue().getCursor()))
+                .withCursor(e.getValue().getCursor())
+                .withChunkField(e.getValue().getChunkField())
+                .withChunkCursor(e.getValue().getChunkCursor()))
             .collect(Collectors.toList()))
         .withCdcState(cdcStateManager.getCdcState());
 
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KeyRangeChunkIteratorTest {
+
+  private static final String NAMESPACE = "public";
+  private static final String STREAM_NAME = "shoes";
+  private static final AirbyteStreamNameNamespacePair NAME_NAMESPACE_PAIR = new AirbyteStreamNameNamespacePair(STREAM_NAME, NAMESPACE);
+  private static final String ID_FIELD_NAME = "id";
+
+  private StateManager stateManager;
+  private AirbyteStateMessage finalStateMessage;
+  private List<String> readChunks;
+
+  @BeforeEach
+  void setup() {
+    stateManager = mock(StateManager.class);
+    finalStateMessage = mock(AirbyteStateMessage.class);
+    when(stateManager.updateChunkAndEmit(NAME_NAMESPACE_PAIR, null, null)).thenReturn(finalStateMessage);
+    readChunks = new ArrayList<>();
+  }
+
+  @Test
+  void testReadsChunksWithCheckpoints() {
+    final AirbyteStateMessage stateMessage1 = mockChunkState("4");
+    final AirbyteStateMessage stateMessage2 = mockChunkState("7");
+
+    final KeyRangeChunkIterator iterator = new KeyRangeChunkIterator(this::readChunk, stateManager, NAME_NAMESPACE_PAIR, ID_FIELD_NAME, 1, 8, 3);
+
+    assertNextRecords(iterator, 1, 2, 3);
+    assertEquals(stateMessage1, iterator.next().getState());
+    assertNextRecords(iterator, 4, 5, 6);
+    assertEquals(stateMessage2, iterator.next().getState());
+    // the last chunk has no upper bound.
+    assertNextRecords(iterator, 7, 8, 9, 10);
+    assertEquals(finalStateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+    assertEquals(List.of("1-4", "4-7", "7-"), readChunks);
+  }
+
+  @Test
+  void testReadsChunksWithoutCheckpoints() {
+    final KeyRangeChunkIterator iterator =
+        new KeyRangeChunkIterator(this::readChunk, stateManager, NAME_NAMESPACE_PAIR, ID_FIELD_NAME, 1, 8, 3, false);
+
+    assertNextRecords(iterator, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    assertEquals(finalStateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+    assertEquals(List.of("1-4", "4-7", "7-"), readChunks);
+    verify(stateManager, never()).updateChunkAndEmit(eq(NAME_NAMESPACE_PAIR), eq(ID_FIELD_NAME), anyString());
+  }
+
+  @Test
+  void testSingleChunk() {
+    final KeyRangeChunkIterator iterator = new KeyRangeChunkIterator(this::readChunk, stateManager, NAME_NAMESPACE_PAIR, ID_FIELD_NAME, 9, 10, 3);
+
+    assertNextRecords(iterator, 9, 10);
+    assertEquals(finalStateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+    assertEquals(List.of("9-"), readChunks);
+  }
+
+  @Test
+  void testChunkReachingTheMaximumKey() {
+    final AirbyteStateMessage stateMessage = mockChunkState(String.valueOf(Long.MAX_VALUE - 1));
+    final KeyRangeChunkIterator iterator = new KeyRangeChunkIterator(
+        (lowerBound, upperBound) -> {
+          readChunks.add(lowerBound + "-" + (upperBound == null ? "" : upperBound));
+          return AutoCloseableIterators.fromIterator(MoreIterators.of());
+        },
+        stateManager, NAME_NAMESPACE_PAIR, ID_FIELD_NAME, Long.MAX_VALUE - 3, Long.MAX_VALUE, 2);
+
+    assertEquals(stateMessage, iterator.next().getState());
+    assertEquals(finalStateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+    assertEquals(List.of((Long.MAX_VALUE - 3) + "-" + (Long.MAX_VALUE - 1), (Long.MAX_VALUE - 1) + "-"), readChunks);
+  }
+
+  @Test
+  void testCloseClosesCurrentChunk() throws Exception {
+    final VoidCallable onClose = mock(VoidCallable.class);
+    final KeyRangeChunkIterator iterator = new KeyRangeChunkIterator(
+        (lowerBound, upperBound) -> AutoCloseableIterators.fromIterator(MoreIterators.of(record(lowerBound)), onClose),
+        stateManager, NAME_NAMESPACE_PAIR, ID_FIELD_NAME, 1, 10, 3);
+
+    assertEquals(record(1), iterator.next());
+    iterator.close();
+    verify(onClose).call();
+  }
+
+  private AirbyteStateMessage mockChunkState(final String chunkCursor) {
+    final AirbyteStateMessage stateMessage = mock(AirbyteStateMessage.class);
+    when(stateManager.updateChunkAndEmit(NAME_NAMESPACE_PAIR, ID_FIELD_NAME, chunkCursor)).thenReturn(stateMessage);
+    return stateMessage;
+  }
+
+  /**
+   * Reads a table with ids from 1 to 10.
+   */
+  private AutoCloseableIterator<AirbyteMessage> readChunk(final long lowerBound, final Long upperBound) {
+    readChunks.add(lowerBound + "-" + (upperBound == null ? "" : upperBound));
+    return AutoCloseableIterators.fromStream(LongStream.rangeClosed(1, 10)
+        .filter(id -> id >= lowerBound && (upperBound == null || id < upperBound))
+        .mapToObj(KeyRangeChunkIteratorTest::record));
+  }
+
+  private static AirbyteMessage record(final long id) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withNamespace(NAMESPACE)
+            .withData(Jsons.jsonNode(Map.of(ID_FIELD_NAME, id))));
+  }
+
+  private static void assertNextRecords(final KeyRangeChunkIterator iterator, final long... ids) {
+    for (final long id : ids) {
+      assertEquals(record(id), iterator.next(), "ids " + Arrays.toString(ids));
+    }
+  }
+
+}
@@ -19,6 +19,7 @@ import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
@@ -41,6 +42,15 @@ class StateDecoratingIteratorTest {
       .withRecord(new AirbyteRecordMessage()
           .withData(Jsons.jsonNode(ImmutableMap.of(UUID_FIELD_NAME, "def"))));
 
+  private static final AirbyteMessage RECORD_MESSAGE3 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withData(Jsons.jsonNode(ImmutableMap.of(UUID_FIELD_NAME, "def"))));
+  private static final AirbyteMessage RECORD_MESSAGE4 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withData(Jsons.jsonNode(ImmutableMap.of(UUID_FIELD_NAME, "ghi"))));
+
   private static Iterator<AirbyteMessage> messageIterator;
   private StateManager stateManager;
   private AirbyteStateMessage stateMessage;
@@ -130,4 +140,80 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator.hasNext());
   }
 
+  @Test
+  void testIntermediateStatesEveryRecords() {
+    final AirbyteStateMessage intermediateStateMessage = mock(AirbyteStateMessage.class);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(intermediateStateMessage);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "ghi")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        MoreIterators.of(RECORD_MESSAGE1, RECORD_MESSAGE2, RECORD_MESSAGE3, RECORD_MESSAGE4),
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        2,
+        Duration.ofHours(1));
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    // not after the second record, as the third one has the same cursor.
+    assertEquals(RECORD_MESSAGE3, iterator.next());
+    assertEquals(intermediateStateMessage, iterator.next().getState());
+    assertEquals(RECORD_MESSAGE4, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIntermediateStatesEveryInterval() {
+    final AirbyteStateMessage intermediateStateMessage1 = mock(AirbyteStateMessage.class);
+    final AirbyteStateMessage intermediateStateMessage2 = mock(AirbyteStateMessage.class);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "abc")).thenReturn(intermediateStateMessage1);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(intermediateStateMessage2);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "ghi")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        MoreIterators.of(RECORD_MESSAGE1, RECORD_MESSAGE2, RECORD_MESSAGE3, RECORD_MESSAGE4),
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        1000,
+        Duration.ZERO);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(intermediateStateMessage1, iterator.next().getState());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    assertEquals(RECORD_MESSAGE3, iterator.next());
+    assertEquals(intermediateStateMessage2, iterator.next().getState());
+    assertEquals(RECORD_MESSAGE4, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testNoIntermediateStateWhenCursorDoesNotAdvance() {
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "xyz")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        MoreIterators.of(RECORD_MESSAGE1, RECORD_MESSAGE2, RECORD_MESSAGE3, RECORD_MESSAGE4),
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        "xyz",
+        JsonSchemaPrimitive.STRING,
+        1,
+        Duration.ZERO);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    assertEquals(RECORD_MESSAGE3, iterator.next());
+    assertEquals(RECORD_MESSAGE4, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
 }
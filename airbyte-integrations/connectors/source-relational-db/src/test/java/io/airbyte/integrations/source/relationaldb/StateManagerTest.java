@@ -125,6 +125,36 @@ class StateManagerTest {
     assertEquals(Optional.empty(), stateManager.getCursor(NAME_NAMESPACE_PAIR2));
   }
 
+  @Test
+  void testChunkCursor() {
+    final DbState state = new DbState().withStreams(Lists.newArrayList(
+        new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withChunkField(CURSOR_FIELD1).withChunkCursor(CURSOR)));
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(Lists.newArrayList(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE))));
+
+    final StateManager stateManager = new StateManager(state, catalog);
+
+    assertEquals(Optional.of(CURSOR), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+    // a cursor recorded for another field is ignored.
+    assertEquals(Optional.empty(), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD2));
+
+    final AirbyteStateMessage expectedChunkEmission = new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(new DbState().withStreams(Lists.newArrayList(
+            new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withChunkField(CURSOR_FIELD2).withChunkCursor("2001")))
+            .withCdc(false)));
+    assertEquals(expectedChunkEmission, stateManager.updateChunkAndEmit(NAME_NAMESPACE_PAIR1, CURSOR_FIELD2, "2001"));
+    assertEquals(Optional.of("2001"), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD2));
+
+    final AirbyteStateMessage expectedFinalEmission = new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(new DbState().withStreams(Lists.newArrayList(
+            new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE)))
+            .withCdc(false)));
+    assertEquals(expectedFinalEmission, stateManager.updateChunkAndEmit(NAME_NAMESPACE_PAIR1, null, null));
+    assertEquals(Optional.empty(), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD2));
+  }
+
   @Test
   void testToState() {
     final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
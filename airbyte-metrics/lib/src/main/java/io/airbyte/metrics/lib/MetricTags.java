@@ -16,6 +16,9 @@ public class MetricTags {
   private static final String RELEASE_STAGE = "release_stage";
   private static final String FAILURE_ORIGIN = "failure_origin";
   private static final String JOB_STATUS = "job_status";
+  private static final String JOB_ID = "job_id";
+  private static final String STREAM = "stream";
+  private static final String QUEUE = "queue";
 
   public static String getReleaseStage(final ReleaseStage stage) {
     return tagDelimit(RELEASE_STAGE, stage.getLiteral());
@@ -29,6 +32,18 @@ public class MetricTags {
     return tagDelimit(JOB_STATUS, status.getLiteral());
   }
 
+  public static String getJobId(final String jobId) {
+    return tagDelimit(JOB_ID, jobId);
+  }
+
+  public static String getStream(final String stream) {
+    return tagDelimit(STREAM, stream);
+  }
+
+  public static String getQueue(final String queue) {
+    return tagDelimit(QUEUE, queue);
+  }
+
   private static String tagDelimit(final String tagName, final String tagVal) {
     return String.join(":", tagName, tagVal);
   }
@@ -91,7 +91,28 @@ public enum MetricsRegistry {
       "oldest running job in seconds"),
   OVERALL_JOB_RUNTIME_IN_LAST_HOUR_BY_TERMINAL_STATE_SECS(MetricEmittingApps.METRICS_REPORTER,
       "overall_job_runtime_in_last_hour_by_terminal_state_secs",
-      "overall job runtime - scheduling and execution for all attempts - for jobs that reach terminal states in the last hour. tagged by terminal states.");
+      "overall job runtime - scheduling and execution for all attempts - for jobs that reach terminal states in the last hour. tagged by terminal states."),
+  REPLICATION_BYTES_EMITTED_PER_SEC(MetricEmittingApps.WORKER,
+      "replication_bytes_emitted_per_sec",
+      "bytes emitted by the source per second since the last report of a running sync. tagged by job id and stream."),
+  REPLICATION_DESTINATION_WRITE_WAIT_TIME_SECS(MetricEmittingApps.WORKER,
+      "replication_destination_write_wait_time_secs",
+      "total time a running sync spent writing to the destination, waiting for it to consume its input. tagged by job id."),
+  REPLICATION_QUEUE_SIZE(MetricEmittingApps.WORKER,
+      "replication_queue_size",
+      "number of messages waiting in a queue of the replication pipeline of a running sync. tagged by job id and queue."),
+  REPLICATION_RECORDS_EMITTED_PER_SEC(MetricEmittingApps.WORKER,
+      "replication_records_emitted_per_sec",
+      "records emitted by the source per second since the last report of a running sync. tagged by job id and stream."),
+  REPLICATION_SOURCE_READ_WAIT_TIME_SECS(MetricEmittingApps.WORKER,
+      "replication_source_read_wait_time_secs",
+      "total time a running sync spent reading from the source, waiting for it to emit data. tagged by job id."),
+  REPLICATION_TIME_WAITING_ON_DESTINATION_SECS(MetricEmittingApps.WORKER,
+      "replication_time_waiting_on_destination_secs",
+      "total time the source of a running sync was blocked because the rest of the replication pipeline was full. tagged by job id."),
+  REPLICATION_TIME_WAITING_ON_SOURCE_SECS(MetricEmittingApps.WORKER,
+      "replication_time_waiting_on_source_secs",
+      "total time the destination of a running sync was idle waiting for messages from the source. tagged by job id.");
 
   public final MetricEmittingApp application;
   public final String metricName;
@@ -29,6 +29,11 @@ import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.instance.jobs.JobsDatabaseSchema;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
@@ -245,6 +250,38 @@ class DefaultJobPersistenceTest {
     assertNotEquals(created.getAttempts().get(0).getUpdatedAtInSecond(), updated.getAttempts().get(0).getUpdatedAtInSecond());
   }
 
+  @Test
+  @DisplayName("Should be able to read the sync stats that were written")
+  void testWriteSyncOutputStats() throws IOException {
+    final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+    final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+    final SyncStats syncStats = new SyncStats()
+        .withRecordsEmitted(10L)
+        .withBytesEmitted(100L)
+        .withRecordsCommitted(10L)
+        .withSourceReadWaitTimeMillis(1500L)
+        .withDestinationWriteWaitTimeMillis(2500L);
+    final JobOutput jobOutput = new JobOutput()
+        .withOutputType(JobOutput.OutputType.SYNC)
+        .withSync(new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary()
+            .withStatus(ReplicationStatus.COMPLETED)
+            .withRecordsSynced(10L)
+            .withBytesSynced(100L)
+            .withStartTime(1L)
+            .withEndTime(2L)
+            .withTotalStats(syncStats)
+            .withStreamStats(Collections.singletonList(new StreamSyncStats().withStreamName("stream").withStats(syncStats)))));
+
+    when(timeSupplier.get()).thenReturn(Instant.ofEpochMilli(4242));
+    jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+    final Job updated = jobPersistence.getJob(jobId);
+    assertEquals(Optional.of(jobOutput), updated.getAttempts().get(0).getOutput());
+    final SyncStats persistedStats = updated.getAttempts().get(0).getOutput().orElseThrow().getSync().getStandardSyncSummary().getTotalStats();
+    assertEquals(1500L, persistedStats.getSourceReadWaitTimeMillis());
+    assertEquals(2500L, persistedStats.getDestinationWriteWaitTimeMillis());
+  }
+
   @Test
   @DisplayName("Should be able to read attemptFailureSummary that was written")
   void testWriteAttemptFailureSummary() throws IOException {
@@ -14,22 +14,28 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.MetricsRegistry;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.protocols.airbyte.AirbyteDestination;
 import io.airbyte.workers.protocols.airbyte.AirbyteMapper;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.MessageTracker;
+import io.airbyte.workers.protocols.airbyte.SizedAirbyteMessage;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
@@ -53,17 +59,29 @@ import org.slf4j.MDC;
  * <li>Handling failure cases and returning state for partially completed replications (so that the
  * next replication can pick up where it left off instead of starting from the beginning)</li>
  * </ul>
+ * <p>
+ * By default, reading from the Source, mapping and tracking messages, and writing to the Destination
+ * all happen on one thread. When the pipeline is enabled, each of these steps runs on its own thread
+ * and the steps are connected by bounded queues, so a slow step blocks the steps before it instead
+ * of buffering without limit.
  */
 public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // marks the end of the source output in the pipeline queues. compared by reference.
+  private static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+  private static final SizedAirbyteMessage SIZED_END_OF_STREAM = new SizedAirbyteMessage(END_OF_STREAM, 0);
+  private static final long PIPELINE_POLL_TIMEOUT_MS = 100;
+
   private final String jobId;
   private final int attempt;
   private final AirbyteSource source;
   private final AirbyteMapper mapper;
   private final AirbyteDestination destination;
   private final MessageTracker messageTracker;
+  private final boolean pipelineEnabled;
+  private final int pipelineQueueSize;
 
   private final ExecutorService executors;
   private final AtomicBoolean cancelled;
@@ -75,13 +93,27 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final AirbyteMapper mapper,
                                   final AirbyteDestination destination,
                                   final MessageTracker messageTracker) {
+    this(jobId, attempt, source, mapper, destination, messageTracker, false, 0);
+  }
+
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker messageTracker,
+                                  final boolean pipelineEnabled,
+                                  final int pipelineQueueSize) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
     this.mapper = mapper;
     this.destination = destination;
     this.messageTracker = messageTracker;
-    this.executors = Executors.newFixedThreadPool(2);
+    this.pipelineEnabled = pipelineEnabled;
+    this.pipelineQueueSize = pipelineQueueSize;
+    // the pipeline runs the source read, mapping and destination write steps on separate threads.
+    this.executors = Executors.newFixedThreadPool(pipelineEnabled ? 4 : 2);
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
@@ -123,9 +155,12 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
       // note: resources are closed in the opposite order in which they are declared. thus source will be
       // closed first (which is what we want).
-      try (destination; source) {
+      try (final ReplicationMetricsReporter metricsReporter = new ReplicationMetricsReporter(jobId, messageTracker); destination; source) {
         destination.start(destinationConfig, jobRoot);
         source.start(sourceConfig, jobRoot);
+        metricsReporter.addGauge(MetricsRegistry.REPLICATION_SOURCE_READ_WAIT_TIME_SECS, () -> source.getReadWaitTimeMillis() / 1000.0);
+        metricsReporter.addGauge(MetricsRegistry.REPLICATION_DESTINATION_WRITE_WAIT_TIME_SECS, () -> destination.getWriteWaitTimeMillis() / 1000.0);
+        metricsReporter.start();
 
         // note: `whenComplete` is used instead of `exceptionally` so that the original exception is still
         // thrown
@@ -141,19 +176,17 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
-        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc),
-            executors).whenComplete((msg, ex) -> {
-              if (ex != null) {
-                if (ex.getCause() instanceof SourceException) {
-                  replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
-                } else if (ex.getCause() instanceof DestinationException) {
-                  replicationRunnableFailureRef.set(FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt));
-                } else {
-                  replicationRunnableFailureRef.set(FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt));
-                }
-              }
-            });
+        final CompletableFuture<?> replicationThreadFuture = runReplication(metricsReporter, mdc).whenComplete((msg, ex) -> {
+          if (ex != null) {
+            if (ex.getCause() instanceof SourceException) {
+              replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
+            } else if (ex.getCause() instanceof DestinationException) {
+              replicationRunnableFailureRef.set(FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt));
+            } else {
+              replicationRunnableFailureRef.set(FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt));
+            }
+          }
+        });
 
         LOGGER.info("Waiting for source and destination threads to complete.");
         // CompletableFuture#allOf waits until all futures finish before returning, even if one throws an
@@ -186,7 +219,10 @@ public class DefaultReplicationWorker implements ReplicationWorker {
       final SyncStats totalSyncStats = new SyncStats()
           .withRecordsEmitted(messageTracker.getTotalRecordsEmitted())
           .withBytesEmitted(messageTracker.getTotalBytesEmitted())
-          .withStateMessagesEmitted(messageTracker.getTotalStateMessagesEmitted());
+          .withStateMessagesEmitted(messageTracker.getTotalStateMessagesEmitted())
+          .withSourceMessagesFailedValidation(source.getValidationFailureCount())
+          .withSourceReadWaitTimeMillis(source.getReadWaitTimeMillis())
+          .withDestinationWriteWaitTimeMillis(destination.getWriteWaitTimeMillis());
 
       if (outputStatus == ReplicationStatus.COMPLETED) {
         totalSyncStats.setRecordsCommitted(totalSyncStats.getRecordsEmitted());
@@ -197,17 +233,21 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         totalSyncStats.setRecordsCommitted(null);
       }
 
+      // the counts are read once: the replication threads may still be running if the sync failed.
+      final Map<String, Long> streamToEmittedRecords = messageTracker.getStreamToEmittedRecords();
+      final Map<String, Long> streamToEmittedBytes = messageTracker.getStreamToEmittedBytes();
+      final Optional<Map<String, Long>> streamToCommittedRecords = messageTracker.getStreamToCommittedRecords();
       // assume every stream with stats is in streamToEmittedRecords map
-      final List<StreamSyncStats> streamSyncStats = messageTracker.getStreamToEmittedRecords().keySet().stream().map(stream -> {
+      final List<StreamSyncStats> streamSyncStats = streamToEmittedRecords.keySet().stream().map(stream -> {
         final SyncStats syncStats = new SyncStats()
-            .withRecordsEmitted(messageTracker.getStreamToEmittedRecords().get(stream))
-            .withBytesEmitted(messageTracker.getStreamToEmittedBytes().get(stream))
+            .withRecordsEmitted(streamToEmittedRecords.get(stream))
+            .withBytesEmitted(streamToEmittedBytes.get(stream))
             .withStateMessagesEmitted(null); // TODO (parker) populate per-stream state messages emitted once supported in V2
 
         if (outputStatus == ReplicationStatus.COMPLETED) {
-          syncStats.setRecordsCommitted(messageTracker.getStreamToEmittedRecords().get(stream));
-        } else if (messageTracker.getStreamToCommittedRecords().isPresent()) {
-          syncStats.setRecordsCommitted(messageTracker.getStreamToCommittedRecords().get().get(stream));
+          syncStats.setRecordsCommitted(streamToEmittedRecords.get(stream));
+        } else if (streamToCommittedRecords.isPresent()) {
+          syncStats.setRecordsCommitted(streamToCommittedRecords.get().get(stream));
         } else {
           syncStats.setRecordsCommitted(null);
         }
@@ -268,6 +308,59 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   }
 
+  /**
+   * Starts moving data from the source to the destination, either on a single thread or, if the
+   * pipeline is enabled, on one thread per step.
+   *
+   * @param metricsReporter reporter to register the pipeline metrics with
+   * @param mdc logging context to propagate to the replication threads
+   * @return future that completes once every replication thread is done, or exceptionally as soon as
+   *         one of them fails.
+   */
+  private CompletableFuture<?> runReplication(final ReplicationMetricsReporter metricsReporter, final Map<String, String> mdc) {
+    if (!pipelineEnabled) {
+      return CompletableFuture.runAsync(getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc), executors);
+    }
+
+    LOGGER.info("Running replication pipeline with queue size {}.", pipelineQueueSize);
+    final BlockingQueue<SizedAirbyteMessage> sourceMessages = new ArrayBlockingQueue<>(pipelineQueueSize);
+    final BlockingQueue<AirbyteMessage> mappedMessages = new ArrayBlockingQueue<>(pipelineQueueSize);
+    // set by the first step that fails so that the other steps stop instead of blocking forever on
+    // a queue nobody reads from or writes to anymore.
+    final AtomicBoolean pipelineFailed = new AtomicBoolean(false);
+    // time the source read step was blocked on a full queue, and time the destination write step was
+    // idle on an empty queue. tells whether the destination or the source is holding the sync back.
+    final AtomicLong waitingOnDestinationNanos = new AtomicLong();
+    final AtomicLong waitingOnSourceNanos = new AtomicLong();
+
+    metricsReporter.addGauge(MetricsRegistry.REPLICATION_QUEUE_SIZE, sourceMessages::size, MetricTags.getQueue("source"));
+    metricsReporter.addGauge(MetricsRegistry.REPLICATION_QUEUE_SIZE, mappedMessages::size, MetricTags.getQueue("mapped"));
+    metricsReporter.addGauge(MetricsRegistry.REPLICATION_TIME_WAITING_ON_DESTINATION_SECS,
+        () -> waitingOnDestinationNanos.get() / 1_000_000_000.0);
+    metricsReporter.addGauge(MetricsRegistry.REPLICATION_TIME_WAITING_ON_SOURCE_SECS,
+        () -> waitingOnSourceNanos.get() / 1_000_000_000.0);
+
+    final CompletableFuture<?> sourceReadFuture = CompletableFuture.runAsync(
+        getSourceReadRunnable(source, sourceMessages, cancelled, pipelineFailed, waitingOnDestinationNanos, mdc), executors);
+    final CompletableFuture<?> mapperFuture = CompletableFuture.runAsync(
+        getMapperRunnable(sourceMessages, mappedMessages, cancelled, pipelineFailed, mapper, messageTracker, mdc), executors);
+    final CompletableFuture<?> destinationWriteFuture = CompletableFuture.runAsync(
+        getDestinationWriteRunnable(destination, mappedMessages, cancelled, pipelineFailed, waitingOnSourceNanos, mdc), executors);
+
+    // fail as soon as any step fails instead of waiting for the other steps to notice, since the source
+    // read step might be blocked on a read from the source.
+    final CompletableFuture<Void> pipelineFuture = new CompletableFuture<>();
+    for (final CompletableFuture<?> stepFuture : List.of(sourceReadFuture, mapperFuture, destinationWriteFuture)) {
+      stepFuture.whenComplete((msg, ex) -> {
+        if (ex != null) {
+          pipelineFuture.completeExceptionally(ex);
+        }
+      });
+    }
+    CompletableFuture.allOf(sourceReadFuture, mapperFuture, destinationWriteFuture).thenRun(() -> pipelineFuture.complete(null));
+    return pipelineFuture;
+  }
+
   private static Runnable getReplicationRunnable(final AirbyteSource source,
                                                  final AirbyteDestination destination,
                                                  final AtomicBoolean cancelled,
@@ -280,16 +373,16 @@ public class DefaultReplicationWorker implements ReplicationWorker {
       var recordsRead = 0;
       try {
         while (!cancelled.get() && !source.isFinished()) {
-          final Optional<AirbyteMessage> messageOptional;
+          final Optional<SizedAirbyteMessage> messageOptional;
           try {
             messageOptional = source.attemptRead();
           } catch (final Exception e) {
             throw new SourceException("Source process read attempt failed", e);
           }
           if (messageOptional.isPresent()) {
-            final AirbyteMessage message = mapper.mapMessage(messageOptional.get());
+            final AirbyteMessage message = mapper.mapMessage(messageOptional.get().message());
 
-            messageTracker.acceptFromSource(message);
+            messageTracker.acceptFromSource(message, messageOptional.get().sizeInBytes());
             try {
               destination.accept(message);
             } catch (final Exception e) {
@@ -330,6 +423,226 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  /**
+   * First step of the replication pipeline. Reads messages from the source and hands them to the
+   * mapper step. Blocks when the mapper step falls behind.
+   */
+  private static Runnable getSourceReadRunnable(final AirbyteSource source,
+                                                final BlockingQueue<SizedAirbyteMessage> sourceMessages,
+                                                final AtomicBoolean cancelled,
+                                                final AtomicBoolean pipelineFailed,
+                                                final AtomicLong waitingOnDestinationNanos,
+                                                final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Source read thread started.");
+      try {
+        while (!cancelled.get() && !source.isFinished()) {
+          final Optional<SizedAirbyteMessage> messageOptional;
+          try {
+            messageOptional = source.attemptRead();
+          } catch (final Exception e) {
+            throw new SourceException("Source process read attempt failed", e);
+          }
+          if (messageOptional.isPresent() && !putWhileRunning(sourceMessages, messageOptional.get(), cancelled, pipelineFailed, waitingOnDestinationNanos)) {
+            return;
+          }
+        }
+        // the end of stream is handed downstream before checking the exit value so that the destination
+        // is notified of the end of stream, the same way it is when the pipeline is disabled.
+        if (!putWhileRunning(sourceMessages, SIZED_END_OF_STREAM, cancelled, pipelineFailed)) {
+          return;
+        }
+        if (!cancelled.get() && source.getExitValue() != 0) {
+          throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
+        }
+      } catch (final Exception e) {
+        handlePipelineException(e, cancelled, pipelineFailed);
+      }
+    };
+  }
+
+  /**
+   * Second step of the replication pipeline. Maps messages and tracks their metadata, then hands them
+   * to the destination write step. Blocks when the destination write step falls behind. This is the
+   * only thread that updates the message tracker with source messages.
+   */
+  private static Runnable getMapperRunnable(final BlockingQueue<SizedAirbyteMessage> sourceMessages,
+                                            final BlockingQueue<AirbyteMessage> mappedMessages,
+                                            final AtomicBoolean cancelled,
+                                            final AtomicBoolean pipelineFailed,
+                                            final AirbyteMapper mapper,
+                                            final MessageTracker messageTracker,
+                                            final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Mapper thread started.");
+      var recordsRead = 0;
+      try {
+        while (!cancelled.get()) {
+          final SizedAirbyteMessage sourceMessage = takeWhileRunning(sourceMessages, cancelled, pipelineFailed);
+          if (sourceMessage == null) {
+            return;
+          }
+          if (sourceMessage == SIZED_END_OF_STREAM) {
+            LOGGER.info("Total records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+            putWhileRunning(mappedMessages, END_OF_STREAM, cancelled, pipelineFailed);
+            return;
+          }
+
+          final AirbyteMessage message = mapper.mapMessage(sourceMessage.message());
+          messageTracker.acceptFromSource(message, sourceMessage.sizeInBytes());
+          if (!putWhileRunning(mappedMessages, message, cancelled, pipelineFailed)) {
+            return;
+          }
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+          }
+        }
+      } catch (final Exception e) {
+        handlePipelineException(e, cancelled, pipelineFailed);
+      }
+    };
+  }
+
+  /**
+   * Last step of the replication pipeline. Writes mapped messages to the destination and notifies it
+   * of the end of stream once the source is done.
+   */
+  private static Runnable getDestinationWriteRunnable(final AirbyteDestination destination,
+                                                      final BlockingQueue<AirbyteMessage> mappedMessages,
+                                                      final AtomicBoolean cancelled,
+                                                      final AtomicBoolean pipelineFailed,
+                                                      final AtomicLong waitingOnSourceNanos,
+                                                      final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Destination write thread started.");
+      try {
+        while (!cancelled.get()) {
+          final AirbyteMessage message = takeWhileRunning(mappedMessages, cancelled, pipelineFailed, waitingOnSourceNanos);
+          if (message == null) {
+            return;
+          }
+          if (message == END_OF_STREAM) {
+            try {
+              destination.notifyEndOfStream();
+            } catch (final Exception e) {
+              throw new DestinationException("Destination process end of stream notification failed", e);
+            }
+            return;
+          }
+
+          try {
+            destination.accept(message);
+          } catch (final Exception e) {
+            throw new DestinationException("Destination process message delivery failed", e);
+          }
+        }
+      } catch (final Exception e) {
+        handlePipelineException(e, cancelled, pipelineFailed);
+      }
+    };
+  }
+
+  /**
+   * Same as {@link #putWhileRunning(BlockingQueue, Object, AtomicBoolean, AtomicBoolean)}, adding
+   * the time spent waiting for space to the given counter. Nothing is timed when the queue has space.
+   */
+  private static <T> boolean putWhileRunning(final BlockingQueue<T> queue,
+                                             final T message,
+                                             final AtomicBoolean cancelled,
+                                             final AtomicBoolean pipelineFailed,
+                                             final AtomicLong waitTimeNanos)
+      throws InterruptedException {
+    if (queue.offer(message)) {
+      return true;
+    }
+    final long waitStart = System.nanoTime();
+    try {
+      return putWhileRunning(queue, message, cancelled, pipelineFailed);
+    } finally {
+      waitTimeNanos.addAndGet(System.nanoTime() - waitStart);
+    }
+  }
+
+  /**
+   * Same as {@link #takeWhileRunning(BlockingQueue, AtomicBoolean, AtomicBoolean)}, adding the time
+   * spent waiting for a message to the given counter. Nothing is timed when a message is already
+   * available.
+   */
+  private static <T> T takeWhileRunning(final BlockingQueue<T> queue,
+                                        final AtomicBoolean cancelled,
+                                        final AtomicBoolean pipelineFailed,
+                                        final AtomicLong waitTimeNanos)
+      throws InterruptedException {
+    final T message = queue.poll();
+    if (message != null) {
+      return message;
+    }
+    final long waitStart = System.nanoTime();
+    try {
+      return takeWhileRunning(queue, cancelled, pipelineFailed);
+    } finally {
+      waitTimeNanos.addAndGet(System.nanoTime() - waitStart);
+    }
+  }
+
+  /**
+   * Puts a message on a pipeline queue, waiting for space to become available.
+   *
+   * @return true if the message was queued, false if the worker was cancelled or another step of the
+   *         pipeline failed while waiting.
+   */
+  private static <T> boolean putWhileRunning(final BlockingQueue<T> queue,
+                                             final T message,
+                                             final AtomicBoolean cancelled,
+                                             final AtomicBoolean pipelineFailed)
+      throws InterruptedException {
+    while (!queue.offer(message, PIPELINE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+      if (cancelled.get() || pipelineFailed.get()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Takes a message from a pipeline queue, waiting for one to become available.
+   *
+   * @return the next message, or null if the worker was cancelled or another step of the pipeline
+   *         failed, and the queue is empty.
+   */
+  private static <T> T takeWhileRunning(final BlockingQueue<T> queue, final AtomicBoolean cancelled, final AtomicBoolean pipelineFailed)
+      throws InterruptedException {
+    T message = queue.poll(PIPELINE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    while (message == null) {
+      if (cancelled.get() || pipelineFailed.get()) {
+        return null;
+      }
+      message = queue.poll(PIPELINE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+    return message;
+  }
+
+  private static void handlePipelineException(final Exception e, final AtomicBoolean cancelled, final AtomicBoolean pipelineFailed) {
+    pipelineFailed.set(true);
+    if (!cancelled.get()) {
+      // Same as with the single threaded replication, a step can race with the closure of the source
+      // or destination and fail after the worker was cancelled. Only surface exceptions if the worker
+      // was not cancelled.
+      if (e instanceof SourceException || e instanceof DestinationException) {
+        // Surface Source and Destination exceptions directly so that they can be classified properly by the
+        // worker
+        throw (RuntimeException) e;
+      } else {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   private static Runnable getDestinationOutputRunnable(final AirbyteDestination destination,
                                                        final AtomicBoolean cancelled,
                                                        final MessageTracker messageTracker,
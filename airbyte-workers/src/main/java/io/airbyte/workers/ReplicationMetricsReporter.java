@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.airbyte.metrics.lib.DogStatsDMetricSingleton;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.MetricsRegistry;
+import io.airbyte.workers.protocols.airbyte.MessageTracker;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes metrics about a running sync on a fixed interval, so that slow or stalled syncs can be
+ * spotted while they run instead of once the attempt is over: the throughput of each stream, and
+ * any gauge registered by the replication steps.
+ * <p>
+ * Metrics are published through {@link DogStatsDMetricSingleton}, so nothing is published unless
+ * metrics are enabled.
+ */
+class ReplicationMetricsReporter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationMetricsReporter.class);
+
+  private static final Duration REPORT_INTERVAL = Duration.ofSeconds(15);
+
+  private final String jobIdTag;
+  private final MessageTracker messageTracker;
+  private final Ticker ticker;
+  private final List<Gauge> gauges;
+  private final ScheduledExecutorService scheduler;
+
+  // only accessed from the reporting thread.
+  private Map<String, Long> previousStreamToEmittedRecords;
+  private Map<String, Long> previousStreamToEmittedBytes;
+  private long previousReportNanos;
+
+  ReplicationMetricsReporter(final String jobId, final MessageTracker messageTracker) {
+    this(jobId, messageTracker, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ReplicationMetricsReporter(final String jobId, final MessageTracker messageTracker, final Ticker ticker) {
+    this.jobIdTag = MetricTags.getJobId(jobId);
+    this.messageTracker = messageTracker;
+    this.ticker = ticker;
+    this.gauges = new CopyOnWriteArrayList<>();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    this.previousStreamToEmittedRecords = new HashMap<>();
+    this.previousStreamToEmittedBytes = new HashMap<>();
+    this.previousReportNanos = ticker.read();
+  }
+
+  /**
+   * Registers a value to publish on every report, in addition to the stream throughput. The job id
+   * tag is added to the given tags.
+   */
+  void addGauge(final MetricsRegistry metric, final DoubleSupplier value, final String... tags) {
+    final String[] gaugeTags = new String[tags.length + 1];
+    gaugeTags[0] = jobIdTag;
+    System.arraycopy(tags, 0, gaugeTags, 1, tags.length);
+    gauges.add(new Gauge(metric, value, gaugeTags));
+  }
+
+  void start() {
+    previousReportNanos = ticker.read();
+    scheduler.scheduleAtFixedRate(this::reportSafely, REPORT_INTERVAL.toMillis(), REPORT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void reportSafely() {
+    // an exception would cancel the next reports. metrics must never disrupt the sync either.
+    try {
+      report();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to report replication metrics.", e);
+    }
+  }
+
+  @VisibleForTesting
+  void report() {
+    final long reportNanos = ticker.read();
+    final double elapsedSeconds = (reportNanos - previousReportNanos) / 1_000_000_000.0;
+    final Map<String, Long> streamToEmittedRecords = messageTracker.getStreamToEmittedRecords();
+    final Map<String, Long> streamToEmittedBytes = messageTracker.getStreamToEmittedBytes();
+
+    if (elapsedSeconds > 0) {
+      for (final Map.Entry<String, Long> entry : streamToEmittedRecords.entrySet()) {
+        final String stream = entry.getKey();
+        final String streamTag = MetricTags.getStream(stream);
+        final long records = entry.getValue() - previousStreamToEmittedRecords.getOrDefault(stream, 0L);
+        final long bytes = streamToEmittedBytes.getOrDefault(stream, 0L) - previousStreamToEmittedBytes.getOrDefault(stream, 0L);
+        DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_RECORDS_EMITTED_PER_SEC, records / elapsedSeconds, jobIdTag, streamTag);
+        DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_BYTES_EMITTED_PER_SEC, bytes / elapsedSeconds, jobIdTag, streamTag);
+      }
+    }
+
+    for (final Gauge gauge : gauges) {
+      DogStatsDMetricSingleton.gauge(gauge.metric(), gauge.value().getAsDouble(), gauge.tags());
+    }
+
+    previousStreamToEmittedRecords = streamToEmittedRecords;
+    previousStreamToEmittedBytes = streamToEmittedBytes;
+    previousReportNanos = reportNanos;
+  }
+
+  private record Gauge(MetricsRegistry metric, DoubleSupplier value, String[] tags) {}
+
+}
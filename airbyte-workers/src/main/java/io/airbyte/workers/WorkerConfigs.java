@@ -25,6 +25,10 @@ public class WorkerConfigs {
   private final String jobBusyboxImage;
   private final String jobCurlImage;
   private final Map<String, String> envMap;
+  private final boolean replicationPipelineEnabled;
+  private final int replicationPipelineQueueSize;
+  private final boolean replicationPassthroughEnabled;
+  private final long replicationFullyValidatedRecordsPerStream;
 
   /**
    * Constructs a job-type-agnostic WorkerConfigs. For WorkerConfigs customized for specific
@@ -46,7 +50,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationWorkerPipelineEnabled(),
+        configs.getReplicationWorkerPipelineQueueSize(),
+        configs.getReplicationWorkerPassthroughEnabled(),
+        configs.getReplicationWorkerFullyValidatedRecordsPerStream());
   }
 
   /**
@@ -76,7 +84,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationWorkerPipelineEnabled(),
+        configs.getReplicationWorkerPipelineQueueSize(),
+        configs.getReplicationWorkerPassthroughEnabled(),
+        configs.getReplicationWorkerFullyValidatedRecordsPerStream());
   }
 
   /**
@@ -106,7 +118,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationWorkerPipelineEnabled(),
+        configs.getReplicationWorkerPipelineQueueSize(),
+        configs.getReplicationWorkerPassthroughEnabled(),
+        configs.getReplicationWorkerFullyValidatedRecordsPerStream());
   }
 
   /**
@@ -136,7 +152,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationWorkerPipelineEnabled(),
+        configs.getReplicationWorkerPipelineQueueSize(),
+        configs.getReplicationWorkerPassthroughEnabled(),
+        configs.getReplicationWorkerFullyValidatedRecordsPerStream());
   }
 
   public static WorkerConfigs buildReplicationWorkerConfigs(final Configs configs) {
@@ -155,7 +175,11 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationWorkerPipelineEnabled(),
+        configs.getReplicationWorkerPipelineQueueSize(),
+        configs.getReplicationWorkerPassthroughEnabled(),
+        configs.getReplicationWorkerFullyValidatedRecordsPerStream());
   }
 
   public Configs.WorkerEnvironment getWorkerEnvironment() {
@@ -202,4 +226,20 @@ public class WorkerConfigs {
     return envMap;
   }
 
+  public boolean isReplicationPipelineEnabled() {
+    return replicationPipelineEnabled;
+  }
+
+  public int getReplicationPipelineQueueSize() {
+    return replicationPipelineQueueSize;
+  }
+
+  public boolean isReplicationPassthroughEnabled() {
+    return replicationPassthroughEnabled;
+  }
+
+  public long getReplicationFullyValidatedRecordsPerStream() {
+    return replicationFullyValidatedRecordsPerStream;
+  }
+
 }
@@ -76,6 +76,14 @@ public interface AirbyteDestination extends CheckedConsumer<AirbyteMessage, Exce
    */
   Optional<AirbyteMessage> attemptRead();
 
+  /**
+   * Gets the total time spent writing messages to the Destination, including flushes. Writes block
+   * when the Destination does not consume its input as fast as it is written.
+   *
+   * @return time spent writing, in milliseconds.
+   */
+  long getWriteWaitTimeMillis();
+
   /**
    * Attempts to shut down the Destination's container. Waits for a graceful shutdown, capped by a
    * timeout.
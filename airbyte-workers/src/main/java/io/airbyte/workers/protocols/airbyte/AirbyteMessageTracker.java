@@ -6,24 +6,32 @@ package io.airbyte.workers.protocols.airbyte;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import com.google.common.base.Utf8;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.workers.protocols.airbyte.StateDeltaTracker.StateDeltaTrackerException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Source messages must be accepted from a single thread, and destination messages from a single
+ * thread. The counts and states can be read from any thread while messages are being accepted.
+ */
 @Slf4j
 public class AirbyteMessageTracker implements MessageTracker {
 
@@ -32,20 +40,23 @@ public class AirbyteMessageTracker implements MessageTracker {
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
   private final AtomicLong totalEmittedStateMessages;
-  private final Map<Short, Long> streamToRunningCount;
   private final HashFunction hashFunction;
-  private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
+  private final Map<String, Short> streamNameToIndex;
+  private final List<String> streamIndexToName;
+  private final StreamCounterTable streamToTotalEmitted;
   private final StateDeltaTracker stateDeltaTracker;
 
-  private short nextStreamIndex;
+  /**
+   * Records emitted by each stream since the last state, indexed by stream index. Only used by the
+   * thread that accepts source messages.
+   */
+  private long[] streamToRunningCount;
 
   /**
    * If the StateDeltaTracker throws an exception, this flag is set to true and committed counts are
    * not returned.
    */
-  private boolean unreliableCommittedCounts;
+  private volatile boolean unreliableCommittedCounts;
 
   public AirbyteMessageTracker() {
     this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES));
@@ -56,20 +67,29 @@ public class AirbyteMessageTracker implements MessageTracker {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
     this.totalEmittedStateMessages = new AtomicLong(0L);
-    this.streamToRunningCount = new HashMap<>();
-    this.streamNameToIndex = HashBiMap.create();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamNameToIndex = new ConcurrentHashMap<>();
+    this.streamIndexToName = new CopyOnWriteArrayList<>();
+    this.streamToTotalEmitted = new StreamCounterTable();
     this.stateDeltaTracker = stateDeltaTracker;
-    this.nextStreamIndex = 0;
+    this.streamToRunningCount = new long[0];
     this.unreliableCommittedCounts = false;
   }
 
+  /**
+   * Prefer {@link #acceptFromSource(AirbyteMessage, long)} when the size of the message is known: the
+   * size of records is measured here by serializing them.
+   */
   @Override
   public void acceptFromSource(final AirbyteMessage message) {
+    final long sizeInBytes = message.getType() == Type.RECORD ? Utf8.encodedLength(Jsons.serialize(message)) : 0L;
+    acceptFromSource(message, sizeInBytes);
+  }
+
+  @Override
+  public void acceptFromSource(final AirbyteMessage message, final long sizeInBytes) {
     switch (message.getType()) {
-      case RECORD -> handleSourceEmittedRecord(message.getRecord());
+      case RECORD -> handleSourceEmittedRecord(message.getRecord(), sizeInBytes);
       case STATE -> handleSourceEmittedState(message.getState());
       default -> log.warn("Invalid message type for message: {}", message);
     }
@@ -87,19 +107,15 @@ public class AirbyteMessageTracker implements MessageTracker {
    * When a source emits a record, increment the running record count, the total record count, and the
    * total byte count for the record's stream.
    */
-  private void handleSourceEmittedRecord(final AirbyteRecordMessage recordMessage) {
+  private void handleSourceEmittedRecord(final AirbyteRecordMessage recordMessage, final long sizeInBytes) {
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
+    if (streamIndex >= streamToRunningCount.length) {
+      streamToRunningCount = Arrays.copyOf(streamToRunningCount, Math.max(streamToRunningCount.length * 2, streamIndex + 1));
+    }
+    streamToRunningCount[streamIndex]++;
 
-    // todo (cgardens) - pretty wasteful to do an extra serialization just to get size.
-    final int numBytes = Jsons.serialize(recordMessage.getData()).getBytes(Charsets.UTF_8).length;
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + numBytes);
+    streamToTotalEmitted.add(streamIndex, 1, sizeInBytes);
   }
 
   /**
@@ -114,7 +130,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     final int stateHash = getStateHashCode(stateMessage);
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, getStreamToRunningCount());
       }
     } catch (final StateDeltaTrackerException e) {
       log.warn("The message tracker encountered an issue that prevents committed record counts from being reliably computed.");
@@ -122,7 +138,21 @@ public class AirbyteMessageTracker implements MessageTracker {
       log.warn(e.getMessage(), e);
       unreliableCommittedCounts = true;
     }
-    streamToRunningCount.clear();
+    Arrays.fill(streamToRunningCount, 0L);
+  }
+
+  /**
+   * Running counts of the streams that emitted records since the last state.
+   */
+  private Map<Short, Long> getStreamToRunningCount() {
+    final Map<Short, Long> runningCounts = new HashMap<>();
+    // the array grows by doubling, so its length can exceed Short.MAX_VALUE.
+    for (int streamIndex = 0; streamIndex < streamToRunningCount.length; streamIndex++) {
+      if (streamToRunningCount[streamIndex] > 0) {
+        runningCounts.put((short) streamIndex, streamToRunningCount[streamIndex]);
+      }
+    }
+    return runningCounts;
   }
 
   /**
@@ -143,12 +173,19 @@ public class AirbyteMessageTracker implements MessageTracker {
     }
   }
 
+  /**
+   * Stream indices are assigned by the thread that accepts source messages. The name is registered
+   * before the index so that readers can always resolve the indices they see.
+   */
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
-      nextStreamIndex++;
+    final Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex != null) {
+      return streamIndex;
     }
-    return streamNameToIndex.get(streamName);
+    final short newStreamIndex = (short) streamIndexToName.size();
+    streamIndexToName.add(streamName);
+    streamNameToIndex.put(streamName, newStreamIndex);
+    return newStreamIndex;
   }
 
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
@@ -179,7 +216,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     return Optional.of(
         streamIndexToCommittedRecordCount.entrySet().stream().collect(
             Collectors.toMap(
-                entry -> streamNameToIndex.inverse().get(entry.getKey()),
+                entry -> streamIndexToName.get(entry.getKey()),
                 Map.Entry::getValue)));
   }
 
@@ -188,9 +225,12 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    final Map<String, Long> streamToEmittedRecords = new HashMap<>();
+    int streamIndex = 0;
+    for (final String streamName : streamIndexToName) {
+      streamToEmittedRecords.put(streamName, streamToTotalEmitted.getRecords((short) streamIndex++));
+    }
+    return streamToEmittedRecords;
   }
 
   /**
@@ -198,25 +238,22 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    final Map<String, Long> streamToEmittedBytes = new HashMap<>();
+    int streamIndex = 0;
+    for (final String streamName : streamIndexToName) {
+      streamToEmittedBytes.put(streamName, streamToTotalEmitted.getBytes((short) streamIndex++));
+    }
+    return streamToEmittedBytes;
   }
 
-  /**
-   * Compute sum of emitted record counts across all streams.
-   */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return streamToTotalEmitted.getTotalRecords();
   }
 
-  /**
-   * Compute sum of emitted bytes across all streams.
-   */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return streamToTotalEmitted.getTotalBytes();
   }
 
   /**
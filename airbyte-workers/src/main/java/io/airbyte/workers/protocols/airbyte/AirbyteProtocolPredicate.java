@@ -5,27 +5,102 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteProtocolSchema;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Verify that the provided JsonNode is a valid AirbyteMessage. Any AirbyteMessage type is allowed
  * (e.g. Record, State, Log, etc).
+ *
+ * <p>
+ * Every message goes through a cheap structural check of its envelope: the type must be a known
+ * message type and records must have a stream, an emitted_at and an object as data. Messages are
+ * then validated against the full AirbyteMessage schema, except for records: for those, only the
+ * first {@code fullyValidatedRecordsPerStream} records of each stream are validated against the full
+ * schema. Validating every record against the schema is expensive, and records of a same stream are
+ * emitted by the same code.
  */
 public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
+  private static final Set<String> MESSAGE_TYPES = Arrays.stream(Type.values()).map(Type::value).collect(Collectors.toSet());
+
   private final JsonSchemaValidator jsonSchemaValidator;
   private final JsonNode schema;
+  private final long fullyValidatedRecordsPerStream;
+  private final Map<String, Long> streamToFullyValidatedRecords;
 
   public AirbyteProtocolPredicate() {
+    this(-1);
+  }
+
+  /**
+   * @param fullyValidatedRecordsPerStream number of records per stream that are validated against
+   *        the full schema. If negative, every record is validated against the full schema.
+   */
+  public AirbyteProtocolPredicate(final long fullyValidatedRecordsPerStream) {
     jsonSchemaValidator = new JsonSchemaValidator();
     schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    this.fullyValidatedRecordsPerStream = fullyValidatedRecordsPerStream;
+    this.streamToFullyValidatedRecords = new HashMap<>();
   }
 
   @Override
   public boolean test(final JsonNode s) {
+    if (!hasValidEnvelope(s)) {
+      return false;
+    }
+    if (isRecord(s) && !shouldFullyValidateRecord(s.get("record"))) {
+      return true;
+    }
     return jsonSchemaValidator.test(schema, s);
   }
 
+  private static boolean hasValidEnvelope(final JsonNode message) {
+    final JsonNode type = message.get("type");
+    if (type == null || !type.isTextual() || !MESSAGE_TYPES.contains(type.asText())) {
+      return false;
+    }
+    if (!isRecord(message)) {
+      return true;
+    }
+
+    final JsonNode record = message.get("record");
+    if (record == null || !record.isObject()) {
+      return false;
+    }
+    final JsonNode stream = record.get("stream");
+    final JsonNode data = record.get("data");
+    final JsonNode emittedAt = record.get("emitted_at");
+    final JsonNode namespace = record.get("namespace");
+    return stream != null && stream.isTextual()
+        && data != null && data.isObject()
+        && emittedAt != null && emittedAt.isNumber()
+        && (namespace == null || namespace.isNull() || namespace.isTextual());
+  }
+
+  private static boolean isRecord(final JsonNode message) {
+    return Type.RECORD.value().equals(message.get("type").asText());
+  }
+
+  private boolean shouldFullyValidateRecord(final JsonNode record) {
+    if (fullyValidatedRecordsPerStream < 0) {
+      return true;
+    }
+    final JsonNode namespace = record.get("namespace");
+    final String streamKey = (namespace == null || namespace.isNull() ? "" : namespace.asText()) + "." + record.get("stream").asText();
+    final long fullyValidatedRecords = streamToFullyValidatedRecords.getOrDefault(streamKey, 0L);
+    if (fullyValidatedRecords >= fullyValidatedRecordsPerStream) {
+      return false;
+    }
+    streamToFullyValidatedRecords.put(streamKey, fullyValidatedRecords + 1);
+    return true;
+  }
+
 }
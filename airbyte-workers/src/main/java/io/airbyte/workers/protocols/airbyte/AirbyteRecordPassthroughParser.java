@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Parses RECORD messages by only reading their envelope (type, stream, namespace and emitted_at)
+ * with a streaming parser. The record data is not deserialized. It is kept as the raw json it was
+ * emitted as, so that serializing the message writes the data exactly as the source emitted it.
+ *
+ * <p>
+ * Only lines that contain a RECORD message made of known fields with the types required by the
+ * protocol schema are handled. Any other line (other message types, unknown fields, fields of
+ * another type, invalid json) is not handled and should go through the regular deserialization and
+ * validation, so that passthrough never forwards a line that validation would drop.
+ */
+class AirbyteRecordPassthroughParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * Attempts to parse a line as a RECORD message.
+   *
+   * @param line line emitted by the source
+   * @return the record message, with its data held as raw json. empty if the line is not a record
+   *         message this parser can handle.
+   */
+  public Optional<AirbyteMessage> parse(final String line) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      boolean isRecord = false;
+      AirbyteRecordMessage record = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        final JsonToken valueToken = parser.nextToken();
+        switch (fieldName) {
+          case "type" -> {
+            if (valueToken != JsonToken.VALUE_STRING || !Type.RECORD.value().equals(parser.getText())) {
+              return Optional.empty();
+            }
+            isRecord = true;
+          }
+          case "record" -> {
+            if (valueToken != JsonToken.START_OBJECT || record != null) {
+              return Optional.empty();
+            }
+            record = parseRecord(parser, line);
+            if (record == null) {
+              return Optional.empty();
+            }
+          }
+          default -> {
+            return Optional.empty();
+          }
+        }
+      }
+
+      if (!isRecord || record == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessage().withType(Type.RECORD).withRecord(record));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads the fields of a record object. The parser must be positioned on the start of the object.
+   *
+   * @return the record, or null if it is missing a required field or has an unexpected one.
+   */
+  private static AirbyteRecordMessage parseRecord(final JsonParser parser, final String line) throws IOException {
+    final AirbyteRecordMessage record = new AirbyteRecordMessage();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken valueToken = parser.nextToken();
+      switch (fieldName) {
+        case "stream" -> {
+          if (valueToken != JsonToken.VALUE_STRING) {
+            return null;
+          }
+          record.setStream(parser.getText());
+        }
+        case "namespace" -> {
+          // the protocol schema only allows a string, an explicit null does not pass its validation.
+          if (valueToken != JsonToken.VALUE_STRING) {
+            return null;
+          }
+          record.setNamespace(parser.getText());
+        }
+        case "emitted_at" -> {
+          if (valueToken != JsonToken.VALUE_NUMBER_INT) {
+            return null;
+          }
+          record.setEmittedAt(parser.getLongValue());
+        }
+        case "data" -> {
+          if (valueToken != JsonToken.START_OBJECT) {
+            return null;
+          }
+          final int dataStart = Math.toIntExact(parser.getTokenLocation().getCharOffset());
+          parser.skipChildren();
+          final int dataEnd = Math.toIntExact(parser.getCurrentLocation().getCharOffset());
+          record.setData(JsonNodeFactory.instance.rawValueNode(new RawValue(line.substring(dataStart, dataEnd))));
+        }
+        default -> {
+          return null;
+        }
+      }
+    }
+
+    if (record.getStream() == null || record.getData() == null || record.getEmittedAt() == null) {
+      return null;
+    }
+    return record;
+  }
+
+}
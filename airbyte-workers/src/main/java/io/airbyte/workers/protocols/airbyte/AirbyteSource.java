@@ -5,7 +5,6 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import io.airbyte.config.WorkerSourceConfig;
-import io.airbyte.protocol.models.AirbyteMessage;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -45,10 +44,26 @@ public interface AirbyteSource extends AutoCloseable {
   /**
    * Attempts to read an AirbyteMessage from the Source.
    *
-   * @return returns an AirbyteMessage is the Source emits one. Otherwise, empty. This method BLOCKS
-   *         on waiting for the Source to emit data to STDOUT.
+   * @return returns an AirbyteMessage, along with its size, is the Source emits one. Otherwise,
+   *         empty. This method BLOCKS on waiting for the Source to emit data to STDOUT.
    */
-  Optional<AirbyteMessage> attemptRead();
+  Optional<SizedAirbyteMessage> attemptRead();
+
+  /**
+   * Gets the total time spent reading from the Source. Reads block when the Source does not emit data
+   * as fast as it is read.
+   *
+   * @return time spent reading, in milliseconds.
+   */
+  long getReadWaitTimeMillis();
+
+  /**
+   * Gets the number of messages emitted by the Source that were dropped because they failed protocol
+   * validation.
+   *
+   * @return count of messages that failed validation.
+   */
+  long getValidationFailureCount();
 
   /**
    * Attempts to shut down the Source's container. Waits for a graceful shutdown, capped by a timeout.
@@ -4,6 +4,8 @@
 
 package io.airbyte.workers.protocols.airbyte;
 
+import com.google.common.base.Utf8;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
 import java.util.stream.Stream;
@@ -12,4 +14,26 @@ public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Same as {@link #create(BufferedReader)}, but each message comes with its size as it was read.
+   * Factories that do not keep track of the lines they read measure the size by serializing the
+   * message back.
+   *
+   * @param bufferedReader reader to parse messages from
+   * @return stream of messages along with their size in bytes
+   */
+  default Stream<SizedAirbyteMessage> createSized(final BufferedReader bufferedReader) {
+    return create(bufferedReader).map(message -> new SizedAirbyteMessage(message, Utf8.encodedLength(Jsons.serialize(message))));
+  }
+
+  /**
+   * Gets the number of messages that were dropped from the streams created by this factory because
+   * they failed protocol validation. Factories that do not validate messages never drop any.
+   *
+   * @return count of messages that failed validation.
+   */
+  default long getValidationFailureCount() {
+    return 0;
+  }
+
 }
@@ -46,6 +46,7 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
 
   private Process destinationProcess = null;
   private BufferedWriter writer = null;
+  private TimedOutputStream destinationInput = null;
   private Iterator<AirbyteMessage> messageIterator = null;
   private Integer exitValue = null;
 
@@ -76,7 +77,8 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     // stdout logs are logged elsewhere since stdout also contains data
     LineGobbler.gobble(destinationProcess.getErrorStream(), LOGGER::error, "airbyte-destination", CONTAINER_LOG_MDC_BUILDER);
 
-    writer = new BufferedWriter(new OutputStreamWriter(destinationProcess.getOutputStream(), Charsets.UTF_8));
+    destinationInput = new TimedOutputStream(destinationProcess.getOutputStream());
+    writer = new BufferedWriter(new OutputStreamWriter(destinationInput, Charsets.UTF_8));
 
     messageIterator = streamFactory.create(IOs.newBufferedReader(destinationProcess.getInputStream()))
         .filter(message -> message.getType() == Type.STATE)
@@ -165,4 +167,9 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
   }
 
+  @Override
+  public long getWriteWaitTimeMillis() {
+    return destinationInput == null ? 0 : destinationInput.getWriteTimeMillis();
+  }
+
 }
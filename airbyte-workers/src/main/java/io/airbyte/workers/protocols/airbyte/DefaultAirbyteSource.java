@@ -13,7 +13,6 @@ import io.airbyte.commons.logging.LoggingHelper.Color;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.logging.MdcScope.Builder;
 import io.airbyte.config.WorkerSourceConfig;
-import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.workers.WorkerConfigs;
 import io.airbyte.workers.WorkerConstants;
@@ -46,11 +45,16 @@ public class DefaultAirbyteSource implements AirbyteSource {
   private final HeartbeatMonitor heartbeatMonitor;
 
   private Process sourceProcess = null;
-  private Iterator<AirbyteMessage> messageIterator = null;
+  private Iterator<SizedAirbyteMessage> messageIterator = null;
+  private TimedInputStream sourceOutput = null;
   private Integer exitValue = null;
 
   public DefaultAirbyteSource(final WorkerConfigs workerConfigs, final IntegrationLauncher integrationLauncher) {
-    this(workerConfigs, integrationLauncher, new DefaultAirbyteStreamFactory(CONTAINER_LOG_MDC_BUILDER),
+    this(workerConfigs, integrationLauncher,
+        new DefaultAirbyteStreamFactory(
+            CONTAINER_LOG_MDC_BUILDER,
+            workerConfigs.isReplicationPassthroughEnabled(),
+            workerConfigs.getReplicationFullyValidatedRecordsPerStream()),
         new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION));
   }
 
@@ -79,9 +83,10 @@ public class DefaultAirbyteSource implements AirbyteSource {
     // stdout logs are logged elsewhere since stdout also contains data
     LineGobbler.gobble(sourceProcess.getErrorStream(), LOGGER::error, "airbyte-source", CONTAINER_LOG_MDC_BUILDER);
 
-    messageIterator = streamFactory.create(IOs.newBufferedReader(sourceProcess.getInputStream()))
+    sourceOutput = new TimedInputStream(sourceProcess.getInputStream());
+    messageIterator = streamFactory.createSized(IOs.newBufferedReader(sourceOutput))
         .peek(message -> heartbeatMonitor.beat())
-        .filter(message -> message.getType() == Type.RECORD || message.getType() == Type.STATE)
+        .filter(message -> message.message().getType() == Type.RECORD || message.message().getType() == Type.STATE)
         .iterator();
   }
 
@@ -111,12 +116,22 @@ public class DefaultAirbyteSource implements AirbyteSource {
   }
 
   @Override
-  public Optional<AirbyteMessage> attemptRead() {
+  public Optional<SizedAirbyteMessage> attemptRead() {
     Preconditions.checkState(sourceProcess != null);
 
     return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
   }
 
+  @Override
+  public long getReadWaitTimeMillis() {
+    return sourceOutput == null ? 0 : sourceOutput.getReadTimeMillis();
+  }
+
+  @Override
+  public long getValidationFailureCount() {
+    return streamFactory.getValidationFailureCount();
+  }
+
   @Override
   public void close() throws Exception {
     if (sourceProcess == null) {
@@ -5,12 +5,14 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Utf8;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +26,11 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * In passthrough mode, RECORD messages are parsed with {@link AirbyteRecordPassthroughParser}: only
+ * their envelope is read and their data is kept as raw json, skipping deserialization and
+ * validation of the data. All other messages are parsed as usual.
  */
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
@@ -32,6 +39,8 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
   private final MdcScope.Builder containerLogMdcBuilder;
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final AirbyteRecordPassthroughParser passthroughParser;
+  private final AtomicLong validationFailureCount;
 
   public DefaultAirbyteStreamFactory() {
     this(MdcScope.DEFAULT_BUILDER);
@@ -41,53 +50,102 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
     this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder);
   }
 
+  /**
+   * @param containerLogMdcBuilder mdc used to log the lines that are not messages
+   * @param passthroughEnabled if true, the data of records is kept as raw json. see
+   *        {@link AirbyteRecordPassthroughParser}.
+   * @param fullyValidatedRecordsPerStream number of records per stream validated against the full
+   *        protocol schema. see {@link AirbyteProtocolPredicate}.
+   */
+  public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder,
+                                     final boolean passthroughEnabled,
+                                     final long fullyValidatedRecordsPerStream) {
+    this(new AirbyteProtocolPredicate(fullyValidatedRecordsPerStream), LOGGER, containerLogMdcBuilder, passthroughEnabled);
+  }
+
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+    this(protocolPredicate, logger, containerLogMdcBuilder, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate,
+                              final Logger logger,
+                              final MdcScope.Builder containerLogMdcBuilder,
+                              final boolean passthroughEnabled) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
     this.containerLogMdcBuilder = containerLogMdcBuilder;
+    this.passthroughParser = passthroughEnabled ? new AirbyteRecordPassthroughParser() : null;
+    this.validationFailureCount = new AtomicLong();
   }
 
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
     return bufferedReader
         .lines()
-        .flatMap(line -> {
-          final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-          if (jsonLine.isEmpty()) {
-            // we log as info all the lines that are not valid json
-            // some sources actually log their process on stdout, we
-            // want to make sure this info is available in the logs.
-            try (final var mdcScope = containerLogMdcBuilder.build()) {
-              logger.info(line);
-            }
-          }
-          return jsonLine.stream();
-        })
-        // filter invalid messages
-        .filter(jsonLine -> {
-          final boolean res = protocolValidator.test(jsonLine);
-          if (!res) {
-            logger.error("Validation failed: {}", Jsons.serialize(jsonLine));
-          }
-          return res;
-        })
-        .flatMap(jsonLine -> {
-          final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine, AirbyteMessage.class);
-          if (m.isEmpty()) {
-            logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine));
-          }
-          return m.stream();
-        })
-        // filter logs
-        .filter(airbyteMessage -> {
-          final boolean isLog = airbyteMessage.getType() == AirbyteMessage.Type.LOG;
-          if (isLog) {
-            try (final var mdcScope = containerLogMdcBuilder.build()) {
-              internalLog(airbyteMessage.getLog());
-            }
-          }
-          return !isLog;
-        });
+        .flatMap(line -> parseLine(line).stream());
+  }
+
+  /**
+   * The size of each message is the length of the line it was parsed from, which is measured without
+   * encoding the line.
+   */
+  @Override
+  public Stream<SizedAirbyteMessage> createSized(final BufferedReader bufferedReader) {
+    return bufferedReader
+        .lines()
+        .flatMap(line -> parseLine(line).map(message -> new SizedAirbyteMessage(message, Utf8.encodedLength(line))).stream());
+  }
+
+  /**
+   * Parses a line emitted by the connector into a message.
+   *
+   * @return the message, or empty if the line is not a valid message or is a log message.
+   */
+  private Optional<AirbyteMessage> parseLine(final String line) {
+    if (passthroughParser != null) {
+      final Optional<AirbyteMessage> record = passthroughParser.parse(line);
+      if (record.isPresent()) {
+        return record;
+      }
+    }
+
+    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
+    if (jsonLine.isEmpty()) {
+      // we log as info all the lines that are not valid json
+      // some sources actually log their process on stdout, we
+      // want to make sure this info is available in the logs.
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        logger.info(line);
+      }
+      return Optional.empty();
+    }
+
+    // filter invalid messages
+    if (!protocolValidator.test(jsonLine.get())) {
+      validationFailureCount.incrementAndGet();
+      logger.error("Validation failed: {}", Jsons.serialize(jsonLine.get()));
+      return Optional.empty();
+    }
+
+    final Optional<AirbyteMessage> airbyteMessage = Jsons.tryObject(jsonLine.get(), AirbyteMessage.class);
+    if (airbyteMessage.isEmpty()) {
+      logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine.get()));
+      return Optional.empty();
+    }
+
+    // filter logs
+    if (airbyteMessage.get().getType() == AirbyteMessage.Type.LOG) {
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        internalLog(airbyteMessage.get().getLog());
+      }
+      return Optional.empty();
+    }
+    return airbyteMessage;
+  }
+
+  @Override
+  public long getValidationFailureCount() {
+    return validationFailureCount.get();
   }
 
   private void internalLog(final AirbyteLogMessage logMessage) {
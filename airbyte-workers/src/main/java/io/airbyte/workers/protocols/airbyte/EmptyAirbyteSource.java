@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.protocols.airbyte;
 
+import com.google.common.base.Utf8;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.WorkerSourceConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -42,15 +43,26 @@ public class EmptyAirbyteSource implements AirbyteSource {
   }
 
   @Override
-  public Optional<AirbyteMessage> attemptRead() {
+  public Optional<SizedAirbyteMessage> attemptRead() {
     if (!hasEmittedState.get()) {
       hasEmittedState.compareAndSet(false, true);
-      return Optional.of(new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage().withData(Jsons.emptyObject())));
+      final AirbyteMessage message = new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage().withData(Jsons.emptyObject()));
+      return Optional.of(new SizedAirbyteMessage(message, Utf8.encodedLength(Jsons.serialize(message))));
     } else {
       return Optional.empty();
     }
   }
 
+  @Override
+  public long getReadWaitTimeMillis() {
+    return 0;
+  }
+
+  @Override
+  public long getValidationFailureCount() {
+    return 0;
+  }
+
   @Override
   public void close() throws Exception {
     // no op.
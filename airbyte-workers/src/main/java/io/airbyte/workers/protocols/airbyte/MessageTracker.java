@@ -23,6 +23,14 @@ public interface MessageTracker {
    */
   void acceptFromSource(AirbyteMessage message);
 
+  /**
+   * Same as {@link #acceptFromSource(AirbyteMessage)}, for a message whose size is already known.
+   *
+   * @param message message to derive metadata from.
+   * @param sizeInBytes size of the message as it was emitted by the source.
+   */
+  void acceptFromSource(AirbyteMessage message, long sizeInBytes);
+
   /**
    * Accepts an AirbyteMessage emitted from a destination and tracks any metadata about it that is
    * required by the Platform.
@@ -8,6 +8,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.regex.Pattern;
@@ -61,7 +62,9 @@ public class NamespacingMapper implements AirbyteMapper {
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
     if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
+      // only the envelope of the record is modified, so the data does not need to be copied. this also
+      // keeps the raw data of records parsed in passthrough mode untouched.
+      final AirbyteMessage message = copyRecordEnvelope(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
       if (namespaceDefinition != null) {
         if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
@@ -76,6 +79,22 @@ public class NamespacingMapper implements AirbyteMapper {
     return inputMessage;
   }
 
+  private static AirbyteMessage copyRecordEnvelope(final AirbyteMessage inputMessage) {
+    final AirbyteRecordMessage inputRecord = inputMessage.getRecord();
+    final AirbyteRecordMessage record = new AirbyteRecordMessage()
+        .withStream(inputRecord.getStream())
+        .withNamespace(inputRecord.getNamespace())
+        .withEmittedAt(inputRecord.getEmittedAt())
+        .withData(inputRecord.getData());
+    inputRecord.getAdditionalProperties().forEach(record::setAdditionalProperty);
+
+    final AirbyteMessage message = new AirbyteMessage()
+        .withType(inputMessage.getType())
+        .withRecord(record);
+    inputMessage.getAdditionalProperties().forEach(message::setAdditionalProperty);
+    return message;
+  }
+
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
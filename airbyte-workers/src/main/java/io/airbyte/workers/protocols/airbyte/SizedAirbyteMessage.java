@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+
+/**
+ * An AirbyteMessage along with its size, in bytes, as it was emitted by the connector. Carrying the
+ * size with the message lets the platform account for the bytes that went through a sync without
+ * serializing the message again.
+ *
+ * @param message the parsed message
+ * @param sizeInBytes size of the utf-8 encoded line the message was parsed from
+ */
+public record SizedAirbyteMessage(AirbyteMessage message, long sizeInBytes) {}
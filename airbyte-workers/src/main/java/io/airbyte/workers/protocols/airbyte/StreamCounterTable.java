@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Record and byte counts per stream, indexed by the stream index assigned by
+ * {@link AirbyteMessageTracker}. The counts are kept in a dense array rather than in maps of boxed
+ * values, and totals across streams are kept alongside so that reading them does not require going
+ * over every stream.
+ * <p>
+ * Counts must be added by a single thread. Any thread can read them while they are being added.
+ */
+class StreamCounterTable {
+
+  private static final int INITIAL_STREAM_CAPACITY = 16;
+  // each stream uses two consecutive slots of the array: its record count, then its byte count.
+  private static final int SLOTS_PER_STREAM = 2;
+
+  private final LongAdder totalRecords;
+  private final LongAdder totalBytes;
+
+  /**
+   * Only replaced by the writing thread when a stream index does not fit anymore. Readers holding on
+   * to a previous array read counts that were correct at the time it was replaced.
+   */
+  private volatile AtomicLongArray counts;
+
+  StreamCounterTable() {
+    this.totalRecords = new LongAdder();
+    this.totalBytes = new LongAdder();
+    this.counts = new AtomicLongArray(INITIAL_STREAM_CAPACITY * SLOTS_PER_STREAM);
+  }
+
+  /**
+   * Adds to the counts of a stream. Must always be called from the same thread.
+   */
+  void add(final short streamIndex, final long records, final long bytes) {
+    final int slot = streamIndex * SLOTS_PER_STREAM;
+    AtomicLongArray currentCounts = counts;
+    if (slot >= currentCounts.length()) {
+      currentCounts = grow(slot);
+    }
+    currentCounts.addAndGet(slot, records);
+    currentCounts.addAndGet(slot + 1, bytes);
+    totalRecords.add(records);
+    totalBytes.add(bytes);
+  }
+
+  long getRecords(final short streamIndex) {
+    return get(streamIndex * SLOTS_PER_STREAM);
+  }
+
+  long getBytes(final short streamIndex) {
+    return get(streamIndex * SLOTS_PER_STREAM + 1);
+  }
+
+  long getTotalRecords() {
+    return totalRecords.sum();
+  }
+
+  long getTotalBytes() {
+    return totalBytes.sum();
+  }
+
+  private long get(final int slot) {
+    final AtomicLongArray currentCounts = counts;
+    // a stream can be known to readers before its first counts are added.
+    return slot < currentCounts.length() ? currentCounts.get(slot) : 0L;
+  }
+
+  private AtomicLongArray grow(final int slot) {
+    final AtomicLongArray previousCounts = counts;
+    final AtomicLongArray newCounts = new AtomicLongArray(Math.max(previousCounts.length() * 2, slot + SLOTS_PER_STREAM));
+    for (int i = 0; i < previousCounts.length(); i++) {
+      newCounts.set(i, previousCounts.get(i));
+    }
+    counts = newCounts;
+    return newCounts;
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the total time spent reading from the wrapped stream. When wrapping the output of
+ * a process, this is the time spent waiting for the process to emit data. Reads go through a reader
+ * that reads large chunks at a time, so timing each read is cheap.
+ * <p>
+ * The time can be read from any thread.
+ */
+class TimedInputStream extends FilterInputStream {
+
+  private final AtomicLong readTimeNanos;
+
+  TimedInputStream(final InputStream in) {
+    super(in);
+    this.readTimeNanos = new AtomicLong();
+  }
+
+  @Override
+  public int read() throws IOException {
+    final long start = System.nanoTime();
+    try {
+      return super.read();
+    } finally {
+      readTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    final long start = System.nanoTime();
+    try {
+      return super.read(b, off, len);
+    } finally {
+      readTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  long getReadTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(readTimeNanos.get());
+  }
+
+}
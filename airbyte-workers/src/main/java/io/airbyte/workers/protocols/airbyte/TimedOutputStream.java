@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the total time spent writing to and flushing the wrapped stream. When wrapping the
+ * input of a process, this is the time spent waiting for the process to consume data. Writes go
+ * through a buffered writer that writes large chunks at a time, so timing each write is cheap.
+ * <p>
+ * The time can be read from any thread.
+ */
+class TimedOutputStream extends FilterOutputStream {
+
+  private final AtomicLong writeTimeNanos;
+
+  TimedOutputStream(final OutputStream out) {
+    super(out);
+    this.writeTimeNanos = new AtomicLong();
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    final long start = System.nanoTime();
+    try {
+      out.write(b);
+    } finally {
+      writeTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  // FilterOutputStream writes arrays one byte at a time. write the whole array at once instead.
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    final long start = System.nanoTime();
+    try {
+      out.write(b, off, len);
+    } finally {
+      writeTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    final long start = System.nanoTime();
+    try {
+      out.flush();
+    } finally {
+      writeTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  long getWriteTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(writeTimeNanos.get());
+  }
+
+}
@@ -40,6 +40,10 @@ public class OrchestratorConstants {
           EnvConfigs.JOB_MAIN_CONTAINER_MEMORY_LIMIT,
           EnvConfigs.JOB_DEFAULT_ENV_MAP,
           EnvConfigs.LOCAL_ROOT,
+          EnvConfigs.REPLICATION_WORKER_PIPELINE_ENABLED,
+          EnvConfigs.REPLICATION_WORKER_PIPELINE_QUEUE_SIZE,
+          EnvConfigs.REPLICATION_WORKER_PASSTHROUGH_ENABLED,
+          EnvConfigs.REPLICATION_WORKER_FULLY_VALIDATED_RECORDS_PER_STREAM,
           LOG_LEVEL,
           LogClientSingleton.GCS_LOG_BUCKET,
           LogClientSingleton.GOOGLE_APPLICATION_CREDENTIALS,
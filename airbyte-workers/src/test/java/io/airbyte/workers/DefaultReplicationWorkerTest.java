@@ -43,6 +43,7 @@ import io.airbyte.workers.protocols.airbyte.AirbyteMessageTracker;
 import io.airbyte.workers.protocols.airbyte.AirbyteMessageUtils;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.NamespacingMapper;
+import io.airbyte.workers.protocols.airbyte.SizedAirbyteMessage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -58,6 +59,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +77,8 @@ class DefaultReplicationWorkerTest {
   private static final AirbyteMessage RECORD_MESSAGE1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
   private static final AirbyteMessage RECORD_MESSAGE2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
   private static final AirbyteMessage STATE_MESSAGE = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+  private static final long RECORD_MESSAGE1_SIZE = 64;
+  private static final long RECORD_MESSAGE2_SIZE = 65;
 
   private Path jobRoot;
   private AirbyteSource source;
@@ -105,7 +109,10 @@ class DefaultReplicationWorkerTest {
 
     when(source.isFinished()).thenReturn(false, false, false, true);
     when(destination.isFinished()).thenReturn(false, false, false, true);
-    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1), Optional.empty(), Optional.of(RECORD_MESSAGE2));
+    when(source.attemptRead()).thenReturn(
+        Optional.of(new SizedAirbyteMessage(RECORD_MESSAGE1, RECORD_MESSAGE1_SIZE)),
+        Optional.empty(),
+        Optional.of(new SizedAirbyteMessage(RECORD_MESSAGE2, RECORD_MESSAGE2_SIZE)));
     when(destination.attemptRead()).thenReturn(Optional.of(STATE_MESSAGE));
     when(mapper.mapCatalog(destinationConfig.getCatalog())).thenReturn(destinationConfig.getCatalog());
     when(mapper.mapMessage(RECORD_MESSAGE1)).thenReturn(RECORD_MESSAGE1);
@@ -198,7 +205,7 @@ class DefaultReplicationWorkerTest {
   void testReplicationRunnableWorkerFailure() throws Exception {
     final String WORKER_ERROR_MESSAGE = "the worker had a failure";
 
-    doThrow(new RuntimeException(WORKER_ERROR_MESSAGE)).when(messageTracker).acceptFromSource(Mockito.any());
+    doThrow(new RuntimeException(WORKER_ERROR_MESSAGE)).when(messageTracker).acceptFromSource(Mockito.any(), Mockito.anyLong());
 
     final ReplicationWorker worker = new DefaultReplicationWorker(
         JOB_ID,
@@ -356,6 +363,9 @@ class DefaultReplicationWorkerTest {
     when(messageTracker.getTotalStateMessagesEmitted()).thenReturn(3L);
     when(messageTracker.getStreamToEmittedBytes()).thenReturn(Collections.singletonMap("stream1", 100L));
     when(messageTracker.getStreamToEmittedRecords()).thenReturn(Collections.singletonMap("stream1", 12L));
+    when(source.getValidationFailureCount()).thenReturn(2L);
+    when(source.getReadWaitTimeMillis()).thenReturn(30L);
+    when(destination.getWriteWaitTimeMillis()).thenReturn(40L);
 
     final ReplicationWorker worker = new DefaultReplicationWorker(
         JOB_ID,
@@ -375,6 +385,9 @@ class DefaultReplicationWorkerTest {
                 .withRecordsEmitted(12L)
                 .withBytesEmitted(100L)
                 .withStateMessagesEmitted(3L)
+                .withSourceMessagesFailedValidation(2L)
+                .withSourceReadWaitTimeMillis(30L)
+                .withDestinationWriteWaitTimeMillis(40L)
                 .withRecordsCommitted(12L)) // since success, should use emitted count
             .withStreamStats(Collections.singletonList(
                 new StreamSyncStats()
@@ -464,6 +477,9 @@ class DefaultReplicationWorkerTest {
         .withRecordsEmitted(12L)
         .withBytesEmitted(100L)
         .withStateMessagesEmitted(3L)
+        .withSourceMessagesFailedValidation(0L)
+        .withSourceReadWaitTimeMillis(0L)
+        .withDestinationWriteWaitTimeMillis(0L)
         .withRecordsCommitted(6L);
     final List<StreamSyncStats> expectedStreamStats = Collections.singletonList(
         new StreamSyncStats()
@@ -514,4 +530,153 @@ class DefaultReplicationWorkerTest {
     assertThrows(WorkerException.class, () -> worker.run(syncInput, jobRoot));
   }
 
+  @Test
+  void testPipeline() throws Exception {
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+
+    assertEquals(ReplicationStatus.COMPLETED, output.getReplicationAttemptSummary().getStatus());
+    final InOrder inOrder = Mockito.inOrder(destination);
+    inOrder.verify(destination).accept(RECORD_MESSAGE1);
+    inOrder.verify(destination).accept(RECORD_MESSAGE2);
+    inOrder.verify(destination).notifyEndOfStream();
+    verify(messageTracker).acceptFromSource(RECORD_MESSAGE1, RECORD_MESSAGE1_SIZE);
+    verify(messageTracker).acceptFromSource(RECORD_MESSAGE2, RECORD_MESSAGE2_SIZE);
+    verify(source).close();
+    verify(destination).close();
+  }
+
+  @SuppressWarnings({"BusyWait"})
+  @Test
+  void testPipelineCancellation() throws InterruptedException {
+    final AtomicReference<ReplicationOutput> output = new AtomicReference<>();
+    when(source.isFinished()).thenReturn(false);
+    when(messageTracker.getDestinationOutputState()).thenReturn(Optional.of(new State().withState(STATE_MESSAGE.getState().getData())));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final Thread workerThread = new Thread(() -> {
+      try {
+        output.set(worker.run(syncInput, jobRoot));
+      } catch (final WorkerException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    workerThread.start();
+
+    // verify the worker is actually running before we kill it.
+    while (Mockito.mockingDetails(messageTracker).getInvocations().size() < 5) {
+      LOGGER.info("waiting for worker to start running");
+      sleep(100);
+    }
+
+    worker.cancel();
+    Assertions.assertTimeout(Duration.ofSeconds(5), (Executable) workerThread::join);
+    assertNotNull(output.get());
+    assertEquals(ReplicationStatus.CANCELLED, output.get().getReplicationAttemptSummary().getStatus());
+  }
+
+  @Test
+  void testPipelineSourceFailure() throws Exception {
+    final String SOURCE_ERROR_MESSAGE = "the source had a failure";
+
+    when(source.attemptRead()).thenThrow(new RuntimeException(SOURCE_ERROR_MESSAGE));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream()
+        .anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.SOURCE) && f.getStacktrace().contains(SOURCE_ERROR_MESSAGE)));
+  }
+
+  @Test
+  void testPipelineSourceNonZeroExitValue() throws Exception {
+    when(source.getExitValue()).thenReturn(1);
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream().anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.SOURCE)));
+  }
+
+  @Test
+  void testPipelineDestinationFailure() throws Exception {
+    final String DESTINATION_ERROR_MESSAGE = "the destination had a failure";
+
+    doThrow(new RuntimeException(DESTINATION_ERROR_MESSAGE)).when(destination).accept(Mockito.any());
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream()
+        .anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.DESTINATION) && f.getStacktrace().contains(DESTINATION_ERROR_MESSAGE)));
+  }
+
+  @Test
+  void testPipelineWorkerFailure() throws Exception {
+    final String WORKER_ERROR_MESSAGE = "the worker had a failure";
+
+    doThrow(new RuntimeException(WORKER_ERROR_MESSAGE)).when(messageTracker).acceptFromSource(Mockito.any(), Mockito.anyLong());
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        true,
+        1);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream()
+        .anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.REPLICATION) && f.getStacktrace().contains(WORKER_ERROR_MESSAGE)));
+  }
+
 }
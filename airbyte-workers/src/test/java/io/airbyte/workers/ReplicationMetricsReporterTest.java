@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import io.airbyte.metrics.lib.DogStatsDMetricSingleton;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.MetricsRegistry;
+import io.airbyte.workers.protocols.airbyte.MessageTracker;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+class ReplicationMetricsReporterTest {
+
+  private static final String JOB_ID = "123";
+  private static final String STREAM_1 = "stream1";
+  private static final String STREAM_2 = "stream2";
+
+  private MessageTracker messageTracker;
+  private AtomicLong nanos;
+  private ReplicationMetricsReporter reporter;
+
+  @BeforeEach
+  void setup() {
+    messageTracker = mock(MessageTracker.class);
+    nanos = new AtomicLong();
+    reporter = new ReplicationMetricsReporter(JOB_ID, messageTracker, new Ticker() {
+
+      @Override
+      public long read() {
+        return nanos.get();
+      }
+
+    });
+  }
+
+  @Test
+  void testReportsThroughputSinceLastReport() {
+    try (final MockedStatic<DogStatsDMetricSingleton> metrics = Mockito.mockStatic(DogStatsDMetricSingleton.class)) {
+      when(messageTracker.getStreamToEmittedRecords()).thenReturn(Map.of(STREAM_1, 100L), Map.of(STREAM_1, 150L, STREAM_2, 20L));
+      when(messageTracker.getStreamToEmittedBytes()).thenReturn(Map.of(STREAM_1, 1000L), Map.of(STREAM_1, 3000L, STREAM_2, 400L));
+
+      nanos.set(TimeUnit.SECONDS.toNanos(10));
+      reporter.report();
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_RECORDS_EMITTED_PER_SEC, 10.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_1)));
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_BYTES_EMITTED_PER_SEC, 100.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_1)));
+
+      nanos.set(TimeUnit.SECONDS.toNanos(20));
+      reporter.report();
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_RECORDS_EMITTED_PER_SEC, 5.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_1)));
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_BYTES_EMITTED_PER_SEC, 200.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_1)));
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_RECORDS_EMITTED_PER_SEC, 2.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_2)));
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_BYTES_EMITTED_PER_SEC, 40.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getStream(STREAM_2)));
+    }
+  }
+
+  @Test
+  void testReportsRegisteredGauges() {
+    try (final MockedStatic<DogStatsDMetricSingleton> metrics = Mockito.mockStatic(DogStatsDMetricSingleton.class)) {
+      when(messageTracker.getStreamToEmittedRecords()).thenReturn(Map.of());
+      when(messageTracker.getStreamToEmittedBytes()).thenReturn(Map.of());
+      final AtomicLong queueSize = new AtomicLong(3);
+      reporter.addGauge(MetricsRegistry.REPLICATION_QUEUE_SIZE, queueSize::get, MetricTags.getQueue("source"));
+
+      reporter.report();
+      queueSize.set(7);
+      reporter.report();
+
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_QUEUE_SIZE, 3.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getQueue("source")));
+      metrics.verify(() -> DogStatsDMetricSingleton.gauge(MetricsRegistry.REPLICATION_QUEUE_SIZE, 7.0,
+          MetricTags.getJobId(JOB_ID), MetricTags.getQueue("source")));
+    }
+  }
+
+}
@@ -53,7 +53,7 @@ class AirbyteMessageTrackerTest {
     messageTracker.acceptFromSource(s2);
 
     assertEquals(3, messageTracker.getTotalRecordsEmitted());
-    assertEquals(3 * Jsons.serialize(r1.getRecord().getData()).getBytes(Charsets.UTF_8).length, messageTracker.getTotalBytesEmitted());
+    assertEquals(3 * Jsons.serialize(r1).getBytes(Charsets.UTF_8).length, messageTracker.getTotalBytesEmitted());
     assertEquals(2, messageTracker.getTotalStateMessagesEmitted());
   }
 
@@ -112,9 +112,9 @@ class AirbyteMessageTrackerTest {
     final AirbyteMessage r2 = createRecordMessage(STREAM_2, 2);
     final AirbyteMessage r3 = createRecordMessage(STREAM_3, 3);
 
-    final long r1Bytes = Jsons.serialize(r1.getRecord().getData()).getBytes(Charsets.UTF_8).length;
-    final long r2Bytes = Jsons.serialize(r2.getRecord().getData()).getBytes(Charsets.UTF_8).length;
-    final long r3Bytes = Jsons.serialize(r3.getRecord().getData()).getBytes(Charsets.UTF_8).length;
+    final long r1Bytes = Jsons.serialize(r1).getBytes(Charsets.UTF_8).length;
+    final long r2Bytes = Jsons.serialize(r2).getBytes(Charsets.UTF_8).length;
+    final long r3Bytes = Jsons.serialize(r3).getBytes(Charsets.UTF_8).length;
 
     messageTracker.acceptFromSource(r1);
     messageTracker.acceptFromSource(r2);
@@ -131,6 +131,20 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  public void testEmittedBytesUseKnownSize() {
+    final AirbyteMessage r1 = createRecordMessage(STREAM_1, 1);
+    final AirbyteMessage r2 = createRecordMessage(STREAM_2, 2);
+
+    messageTracker.acceptFromSource(r1, 100L);
+    messageTracker.acceptFromSource(r2, 200L);
+    messageTracker.acceptFromSource(r2, 300L);
+
+    assertEquals(Map.of(STREAM_1, 100L, STREAM_2, 500L), messageTracker.getStreamToEmittedBytes());
+    assertEquals(600L, messageTracker.getTotalBytesEmitted());
+    assertEquals(3, messageTracker.getTotalRecordsEmitted());
+  }
+
   @Test
   public void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = createRecordMessage(STREAM_1, 1);
@@ -174,6 +188,22 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToCommittedRecords().get());
   }
 
+  @Test
+  public void testRunningCountsPassedToDeltaTrackerWithManyStreams() throws Exception {
+    // enough streams for the running count array to grow past Short.MAX_VALUE slots.
+    final int streamCount = Short.MAX_VALUE / 2 + 2;
+    for (int i = 0; i < streamCount; i++) {
+      messageTracker.acceptFromSource(createRecordMessage("stream" + i, i));
+    }
+    messageTracker.acceptFromSource(createStateMessage(1));
+
+    final Map<Short, Long> expected = new HashMap<>();
+    for (int i = 0; i < streamCount; i++) {
+      expected.put((short) i, 1L);
+    }
+    Mockito.verify(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.eq(expected));
+  }
+
   @Test
   public void testGetCommittedRecordsByStream_emptyWhenAddStateThrowsException() throws Exception {
     Mockito.doThrow(new StateDeltaTrackerException("induced exception")).when(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.anyMap());
@@ -60,4 +60,28 @@ class AirbyteProtocolPredicateTest {
     assertFalse(predicate.test(Jsons.deserialize(concatenated)));
   }
 
+  @Test
+  void testRecordWithoutRequiredEnvelopeFields() {
+    assertFalse(predicate.test(Jsons.deserialize("{ \"type\": \"RECORD\"}")));
+    assertFalse(predicate.test(Jsons.deserialize("{ \"type\": \"RECORD\", \"record\": { \"stream\": \"s\", \"emitted_at\": 1 }}")));
+    assertFalse(predicate.test(Jsons.deserialize("{ \"type\": \"RECORD\", \"record\": { \"data\": {}, \"emitted_at\": 1 }}")));
+    assertFalse(predicate.test(Jsons.deserialize("{ \"type\": \"RECORD\", \"record\": { \"stream\": \"s\", \"data\": {} }}")));
+    assertFalse(predicate.test(Jsons.deserialize("{ \"type\": \"FISH\", \"record\": { \"stream\": \"s\", \"data\": {}, \"emitted_at\": 1 }}")));
+  }
+
+  @Test
+  void testOnlyFirstRecordsOfStreamAreFullyValidated() {
+    final AirbyteProtocolPredicate samplingPredicate = new AirbyteProtocolPredicate(1);
+    // the record is structurally valid but the namespace fails validation against the full schema.
+    final String recordWithInvalidNamespace =
+        "{ \"type\": \"RECORD\", \"record\": { \"stream\": \"%s\", \"data\": {}, \"emitted_at\": 1, \"namespace\": null }}";
+
+    assertTrue(samplingPredicate.test(Jsons.jsonNode(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green"))));
+    assertTrue(samplingPredicate.test(Jsons.deserialize(String.format(recordWithInvalidNamespace, STREAM_NAME))));
+    assertFalse(samplingPredicate.test(Jsons.deserialize(String.format(recordWithInvalidNamespace, "other_stream"))));
+    // messages other than records are always fully validated.
+    assertFalse(samplingPredicate.test(Jsons.deserialize("{ \"type\": \"STATE\", \"state\": {}}")));
+    assertFalse(samplingPredicate.test(Jsons.deserialize("{ \"type\": \"STATE\", \"state\": {}}")));
+  }
+
 }
@@ -142,9 +142,9 @@ class DefaultAirbyteSourceTest {
     final List<AirbyteMessage> messages = Lists.newArrayList();
 
     assertFalse(source.isFinished());
-    messages.add(source.attemptRead().get());
+    messages.add(source.attemptRead().get().message());
     assertFalse(source.isFinished());
-    messages.add(source.attemptRead().get());
+    messages.add(source.attemptRead().get().message());
     assertFalse(source.isFinished());
 
     when(process.isAlive()).thenReturn(false);
@@ -177,8 +177,8 @@ class DefaultAirbyteSourceTest {
 
     final List<AirbyteMessage> messages = Lists.newArrayList();
 
-    messages.add(source.attemptRead().get());
-    messages.add(source.attemptRead().get());
+    messages.add(source.attemptRead().get().message());
+    messages.add(source.attemptRead().get().message());
 
     when(process.isAlive()).thenReturn(false);
 
@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,9 +85,11 @@ class DefaultAirbyteStreamFactoryTest {
 
     when(protocolPredicate.test(Jsons.deserialize(invalidRecord))).thenReturn(false);
 
-    final Stream<AirbyteMessage> messageStream = stringToMessageStream(invalidRecord);
+    final DefaultAirbyteStreamFactory streamFactory = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder());
+    final Stream<AirbyteMessage> messageStream = streamFactory.create(stringToBufferedReader(invalidRecord));
 
     assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    assertEquals(1, streamFactory.getValidationFailureCount());
     verify(logger).error(anyString(), anyString());
     verifyNoMoreInteractions(logger);
   }
@@ -119,10 +122,103 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  public void testPassthroughRecord() {
+    final String recordLine =
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":\"user_preferences\",\"namespace\":\"public\",\"emitted_at\":1,\"data\":{ \"favorite_color\" : \"green\", \"ids\": [1, 2.50] }}}";
+
+    final List<AirbyteMessage> messages = stringToMessageStream(recordLine, true).collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    final AirbyteMessage message = messages.get(0);
+    assertEquals(AirbyteMessage.Type.RECORD, message.getType());
+    assertEquals(STREAM_NAME, message.getRecord().getStream());
+    assertEquals("public", message.getRecord().getNamespace());
+    assertEquals(1L, message.getRecord().getEmittedAt());
+    // the data is written exactly as the source emitted it.
+    assertEquals("{ \"favorite_color\" : \"green\", \"ids\": [1, 2.50] }", Jsons.serialize(message.getRecord().getData()));
+    assertEquals(Jsons.deserialize(recordLine), Jsons.deserialize(Jsons.serialize(message)));
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  public void testPassthroughParsesOtherMessages() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(Jsons.serialize(state), true);
+
+    assertEquals(List.of(state), messageStream.collect(Collectors.toList()));
+    verify(protocolPredicate).test(Jsons.jsonNode(state));
+  }
+
+  @Test
+  public void testPassthroughParsesRecordsWithUnknownFields() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    record.getRecord().setAdditionalProperty("unknown", "value");
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(Jsons.serialize(record), true);
+
+    assertEquals(List.of(record), messageStream.collect(Collectors.toList()));
+    verify(protocolPredicate).test(any());
+  }
+
+  @Test
+  public void testPassthroughValidatesRecordsWithUnexpectedTypes() {
+    when(protocolPredicate.test(any())).thenReturn(false);
+    final List<String> recordLines = List.of(
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":\"user_preferences\",\"namespace\":null,\"emitted_at\":1,\"data\":{}}}",
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":\"user_preferences\",\"namespace\":1,\"emitted_at\":1,\"data\":{}}}",
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":null,\"emitted_at\":1,\"data\":{}}}",
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":[\"user_preferences\"],\"emitted_at\":1,\"data\":{}}}",
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":\"user_preferences\",\"emitted_at\":\"1\",\"data\":{}}}",
+        "{\"type\":\"RECORD\",\"record\":{\"stream\":\"user_preferences\",\"emitted_at\":1,\"data\":[]}}");
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(String.join("\n", recordLines), true);
+
+    // these lines go through the regular validation, which drops them.
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    for (final String recordLine : recordLines) {
+      verify(protocolPredicate).test(Jsons.deserialize(recordLine));
+    }
+  }
+
+  @Test
+  public void testPassthroughLoggingLine() {
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream("invalid line", true);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(logger).info(anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void testSizedMessages() {
+    final String recordLine = Jsons.serialize(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "vert \u00e9meraude"));
+    final String stateLine = Jsons.serialize(AirbyteMessageUtils.createStateMessage("checkpoint", "1"));
+    final String inputString = String.join("\n", recordLine, "invalid line", stateLine);
+
+    final List<SizedAirbyteMessage> messages = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .createSized(stringToBufferedReader(inputString))
+        .collect(Collectors.toList());
+
+    assertEquals(List.of(
+        new SizedAirbyteMessage(Jsons.deserialize(recordLine, AirbyteMessage.class), recordLine.getBytes(StandardCharsets.UTF_8).length),
+        new SizedAirbyteMessage(Jsons.deserialize(stateLine, AirbyteMessage.class), stateLine.getBytes(StandardCharsets.UTF_8).length)),
+        messages);
+  }
+
   private Stream<AirbyteMessage> stringToMessageStream(final String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(final String inputString, final boolean passthroughEnabled) {
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder(), passthroughEnabled).create(stringToBufferedReader(inputString));
+  }
+
+  private static BufferedReader stringToBufferedReader(final String inputString) {
     final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
-    final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(bufferedReader);
+    return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
   }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamCounterTableTest {
+
+  private static final short STREAM_INDEX_1 = (short) 0;
+  private static final short STREAM_INDEX_2 = (short) 1;
+  private static final short STREAM_INDEX_3 = Short.MAX_VALUE;
+
+  private StreamCounterTable counterTable;
+
+  @BeforeEach
+  public void setup() {
+    counterTable = new StreamCounterTable();
+  }
+
+  @Test
+  public void testCountsPerStream() {
+    counterTable.add(STREAM_INDEX_1, 1, 10);
+    counterTable.add(STREAM_INDEX_2, 1, 20);
+    counterTable.add(STREAM_INDEX_2, 1, 30);
+
+    assertEquals(1L, counterTable.getRecords(STREAM_INDEX_1));
+    assertEquals(10L, counterTable.getBytes(STREAM_INDEX_1));
+    assertEquals(2L, counterTable.getRecords(STREAM_INDEX_2));
+    assertEquals(50L, counterTable.getBytes(STREAM_INDEX_2));
+    assertEquals(3L, counterTable.getTotalRecords());
+    assertEquals(60L, counterTable.getTotalBytes());
+  }
+
+  @Test
+  public void testCountsAreKeptWhenGrowing() {
+    counterTable.add(STREAM_INDEX_1, 1, 10);
+    counterTable.add(STREAM_INDEX_3, 1, 20);
+    counterTable.add(STREAM_INDEX_1, 1, 10);
+
+    assertEquals(2L, counterTable.getRecords(STREAM_INDEX_1));
+    assertEquals(20L, counterTable.getBytes(STREAM_INDEX_1));
+    assertEquals(1L, counterTable.getRecords(STREAM_INDEX_3));
+    assertEquals(20L, counterTable.getBytes(STREAM_INDEX_3));
+    assertEquals(0L, counterTable.getRecords(STREAM_INDEX_2));
+    assertEquals(3L, counterTable.getTotalRecords());
+    assertEquals(40L, counterTable.getTotalBytes());
+  }
+
+  @Test
+  public void testUnknownStreamHasNoCounts() {
+    assertEquals(0L, counterTable.getRecords(STREAM_INDEX_3));
+    assertEquals(0L, counterTable.getBytes(STREAM_INDEX_3));
+  }
+
+  @Test
+  public void testReadWhileAdding() {
+    final int recordsPerStream = 100_000;
+    final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < recordsPerStream; i++) {
+        for (short streamIndex = 0; streamIndex < 64; streamIndex++) {
+          counterTable.add(streamIndex, 1, 2);
+        }
+      }
+    });
+
+    long previousRecords = 0;
+    while (!writer.isDone()) {
+      final long records = counterTable.getRecords(STREAM_INDEX_1);
+      assertTrue(records >= previousRecords);
+      previousRecords = records;
+    }
+    writer.join();
+
+    assertEquals(recordsPerStream, counterTable.getRecords(STREAM_INDEX_1));
+    assertEquals(2L * recordsPerStream, counterTable.getBytes(STREAM_INDEX_2));
+    assertEquals(64L * recordsPerStream, counterTable.getTotalRecords());
+  }
+
+}
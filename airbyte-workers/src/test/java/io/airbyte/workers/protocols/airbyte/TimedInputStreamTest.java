@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class TimedInputStreamTest {
+
+  @Test
+  void testReadsArePassedThrough() throws IOException {
+    final TimedInputStream timedInputStream = new TimedInputStream(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals("hello", new String(timedInputStream.readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testReadTimeIsTracked() throws IOException {
+    final InputStream slowInputStream = new ByteArrayInputStream(new byte[10]) {
+
+      @Override
+      public synchronized int read(final byte[] b, final int off, final int len) {
+        try {
+          Thread.sleep(50);
+        } catch (final InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return super.read(b, off, len);
+      }
+
+    };
+    final TimedInputStream timedInputStream = new TimedInputStream(slowInputStream);
+    assertEquals(0, timedInputStream.getReadTimeMillis());
+
+    assertEquals(10, timedInputStream.read(new byte[10]));
+    assertEquals(-1, timedInputStream.read(new byte[10]));
+
+    assertTrue(timedInputStream.getReadTimeMillis() >= 100);
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class TimedOutputStreamTest {
+
+  @Test
+  void testWritesArePassedThrough() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final TimedOutputStream timedOutputStream = new TimedOutputStream(out);
+
+    timedOutputStream.write("hello".getBytes(StandardCharsets.UTF_8), 1, 3);
+    timedOutputStream.write('!');
+    timedOutputStream.flush();
+
+    assertArrayEquals("ell!".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+  }
+
+  @Test
+  void testWriteAndFlushTimeIsTracked() throws IOException {
+    final OutputStream slowOutputStream = new OutputStream() {
+
+      @Override
+      public void write(final int b) {
+        throw new IllegalStateException("arrays must not be written one byte at a time");
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) {
+        sleep(50);
+      }
+
+      @Override
+      public void flush() {
+        sleep(50);
+      }
+
+    };
+    final TimedOutputStream timedOutputStream = new TimedOutputStream(slowOutputStream);
+    assertEquals(0, timedOutputStream.getWriteTimeMillis());
+
+    timedOutputStream.write(new byte[10]);
+    timedOutputStream.flush();
+
+    assertTrue(timedOutputStream.getWriteTimeMillis() >= 100);
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}